@@ -3,6 +3,7 @@ package model;
 import model.log.Event;
 import model.log.EventLog;
 import model.util.CourseData;
+import model.util.TimeMask;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.Writable;
@@ -21,6 +22,13 @@ public class Schedule implements Writable {
     private float score;                                 // used for ranking, a higher score is a better schedule
     private Map<String, List<Section>> sortedSections;   // sections sorted into weekdays and further sorted by time
     private CourseData courseData;                       // data for courses and sections used for creating the schedule
+    private long[] occupied;                             // running OR of the occupancy of the sections in sectionIDs
+    private List<Section> unmaskedSections;              // sections in sectionIDs that have no occupancy mask
+    private int occupiedCount;                           // how many entries of sectionIDs occupied is up to date with
+    private int[] handles;                               // the handle of each section in sectionIDs in courseData (see
+    //                                                      CourseData.getOrdinal), -1 if it is not in courseData
+    private int handleCount;                             // how many entries of sectionIDs handles is up to date with
+    private String[] handleIDs;                          // the section ID each handle was made from
 
 
     // REQUIRES: courseIDs must all be valid course ids, sectionIDs must all be valid section ids, term must be either
@@ -40,6 +48,12 @@ public class Schedule implements Writable {
         this.weight = weight;
         this.score = 0;
         this.courseData = courseData;
+        this.occupied = TimeMask.empty();
+        this.unmaskedSections = new ArrayList<>();
+        this.occupiedCount = 0;
+        this.handles = new int[8];
+        this.handleCount = 0;
+        this.handleIDs = new String[8];
 
         this.sortedSections = new HashMap<>();
         initSortedSections();
@@ -97,6 +111,15 @@ public class Schedule implements Writable {
 
     public void addSectionID(String sectionID) {
         this.sectionIDs.add(sectionID);
+        addHandle(courseData.getOrdinal(sectionID));
+    }
+
+    // REQUIRES: handle is the handle of a section in courseData (see CourseData.getOrdinal)
+    // MODIFIES: this
+    // EFFECTS: adds the section with the given handle to the schedule, without looking up its section ID
+    public void addSection(int handle) {
+        this.sectionIDs.add(courseData.getSection(handle).getSectionID());
+        addHandle(handle);
     }
 
     public Weight getWeight() {
@@ -150,6 +173,12 @@ public class Schedule implements Writable {
         for (String sectionID : this.sectionIDs) {
             newSchedule.sectionIDs.add(sectionID);
         }
+        newSchedule.occupied = this.occupied.clone();
+        newSchedule.unmaskedSections.addAll(this.unmaskedSections);
+        newSchedule.occupiedCount = this.occupiedCount;
+        newSchedule.handles = Arrays.copyOf(this.handles, Math.max(this.handles.length, this.sectionIDs.size() + 8));
+        newSchedule.handleCount = this.handleCount;
+        newSchedule.handleIDs = Arrays.copyOf(this.handleIDs, newSchedule.handles.length);
         return newSchedule;
     }
 
@@ -161,6 +190,8 @@ public class Schedule implements Writable {
             return false;
         } else {
             this.sectionIDs.add(section.getSectionID());
+            addHandle(courseData.getOrdinal(section.getSectionID()));
+            occupy(section);
             return true;
         }
     }
@@ -168,22 +199,114 @@ public class Schedule implements Writable {
     // EFFECTS: checks if a section has conflicts with the sections already in schedule,
     //          returns false if no conflict is found.
     private boolean checkConflicts(Section section) {
-        boolean hasConflict = false;
-        for (String scheduleSectionsID : sectionIDs) {
-            Section scheduleSection = courseData.getSection(scheduleSectionsID);
+        updateOccupied();
+        if (section.getOccupancy() == null) {
+            for (int i = 0; i < handleCount; i++) {
+                if (getSectionAt(i).hasConflictWith(section)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (TimeMask.intersects(occupied, section.getOccupancy())) {
+            return true;
+        }
+        for (Section scheduleSection : unmaskedSections) {
             if (scheduleSection.hasConflictWith(section)) {
-                hasConflict = true;
-                break;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rebuilds the occupied slots from the handles if sectionIDs was changed without going through
+    //          tryAddSection (for example by addSectionID, removeCourseById, or through getSectionIDs)
+    private void updateOccupied() {
+        updateHandles();
+        if (occupiedCount == handleCount) {
+            return;
+        }
+        occupied = TimeMask.empty();
+        unmaskedSections.clear();
+        occupiedCount = 0;
+        for (int i = 0; i < handleCount; i++) {
+            occupy(getSectionAt(i));
+        }
+    }
+
+    // REQUIRES: section is the section of the handle right after the first occupiedCount ones, or null if it is not
+    //           in courseData
+    // MODIFIES: this
+    // EFFECTS: adds the time slots of the section to the occupied slots
+    private void occupy(Section section) {
+        if (section != null && section.getOccupancy() == null) {
+            unmaskedSections.add(section);
+        } else if (section != null) {
+            TimeMask.addTo(occupied, section.getOccupancy());
+        }
+        occupiedCount++;
+    }
+
+    // EFFECTS: returns true if the first count entries of sectionIDs are the very same strings as those of ids, so
+    //          that what was made from ids is still up to date with them. Comparing sizes is not enough, since a
+    //          section can be removed through getSectionIDs and another one added.
+    private boolean startsWith(String[] ids, int count) {
+        if (count < 0 || count > sectionIDs.size()) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (ids[i] != sectionIDs.get(i)) {
+                return false;
             }
         }
-        return hasConflict;
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the handle of the section that was just added to sectionIDs, if handles is up to date with all
+    //          the others
+    private void addHandle(int handle) {
+        if (handleCount != sectionIDs.size() - 1 || !startsWith(handleIDs, handleCount)) {
+            return;
+        }
+        if (handleCount == handles.length) {
+            handles = Arrays.copyOf(handles, handles.length * 2);
+            handleIDs = Arrays.copyOf(handleIDs, handles.length);
+        }
+        handleIDs[handleCount] = sectionIDs.get(handleCount);
+        handles[handleCount++] = handle;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: looks up the handles of all the sections in sectionIDs again if sectionIDs was changed without going
+    //          through this (for example by removeCourseById, or through getSectionIDs), and then makes the
+    //          occupied slots be rebuilt from them
+    private void updateHandles() {
+        if (handleCount == sectionIDs.size() && startsWith(handleIDs, handleCount)) {
+            return;
+        }
+        handles = new int[sectionIDs.size() + 8];
+        handleIDs = sectionIDs.toArray(new String[handles.length]);
+        for (int i = 0; i < sectionIDs.size(); i++) {
+            handles[i] = courseData.getOrdinal(sectionIDs.get(i));
+        }
+        handleCount = sectionIDs.size();
+        occupiedCount = -1;
+    }
+
+    // REQUIRES: handles is up to date, 0 <= i < handleCount
+    // EFFECTS: returns the section at the given position of sectionIDs, or null if it is not in courseData
+    private Section getSectionAt(int i) {
+        return handles[i] < 0 ? null : courseData.getSection(handles[i]);
     }
 
     // EFFECTS: returns all the antirequisits section IDs of the sections in the schedule
     public List<List<String>> getAllAntirequisits() {
+        updateHandles();
         List<List<String>> results = new ArrayList<>();
-        for (String sectionID : this.getSectionIDs()) {
-            results.addAll(courseData.getSection(sectionID).getAntiRequisiteIDs());
+        for (int i = 0; i < handleCount; i++) {
+            results.addAll(getSectionAt(i).getAntiRequisiteIDs());
         }
         return results;
     }
@@ -198,8 +321,9 @@ public class Schedule implements Writable {
     // EFFECTS: Calculates the score of the schedule, and assigns that score to the schedule
     public void calculateScore() {
         initSortedSections();
-        List<Section> sections = courseData.getSections(sectionIDs);
-        for (Section section : sections) {
+        updateHandles();
+        for (int i = 0; i < handleCount; i++) {
+            Section section = getSectionAt(i);
             for (String day : section.getWeekDays()) {
                 sortedSections.get(day).add(section);
             }
@@ -320,6 +444,8 @@ public class Schedule implements Writable {
     public void removeCourseById(String courseId) {
         this.getCourses().removeIf(course -> course.getCourseID().equals(courseId));
         this.getSectionIDs().removeIf(cId -> cId.startsWith(courseId));
+        this.occupiedCount = -1;
+        this.handleCount = -1;
         this.calculateScore();
         EventLog.getInstance().logEvent(new Event(String.format("Removed %s from Schedule.", courseId)));
     }
@@ -2,6 +2,7 @@ package model;
 
 
 import model.util.HelperUtil;
+import model.util.TimeMask;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.Writable;
@@ -24,6 +25,8 @@ public class Section implements Writable {
     private int startMin;                            // the section's start time in minutes
     private int endMin;                              // the section's end time in minutes
     private List<String> weekDays;                   // the week days that this section is on
+    private long[] occupancy;                        // the time slots of the week this section occupies (see
+    //                                                  TimeMask), null if the times cannot be put into slots
     private int term;                                // the term this section is in
     private List<List<String>> antiRequisiteIDs;     // a list of antirequisites. They are split by type, where each
     //                                                  inner list contains the antirequisite section IDs of one type.
@@ -56,6 +59,7 @@ public class Section implements Writable {
         this.term = term;
         this.courseID = courseID;
         this.antiRequisiteIDs = antiRequisiteIDs;
+        this.occupancy = TimeMask.of(startMin, endMin, weekDays);
     }
 
     public String getSectionID() {
@@ -86,24 +90,41 @@ public class Section implements Writable {
         return startTime;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the start time, and updates the start time in minutes and the occupancy to match
     public void setStartTime(String startTime) {
         this.startTime = startTime;
+        this.startMin = HelperUtil.calculateMinutes(startTime);
+        this.occupancy = TimeMask.of(startMin, endMin, weekDays);
     }
 
     public String getEndTime() {
         return endTime;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the end time, and updates the end time in minutes and the occupancy to match
     public void setEndTime(String endTime) {
         this.endTime = endTime;
+        this.endMin = HelperUtil.calculateMinutes(endTime);
+        this.occupancy = TimeMask.of(startMin, endMin, weekDays);
     }
 
     public List<String> getWeekDays() {
         return weekDays;
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the week days, and updates the occupancy to match
     public void setWeekDays(List<String> weekDays) {
         this.weekDays = weekDays;
+        this.occupancy = TimeMask.of(startMin, endMin, weekDays);
+    }
+
+    // EFFECTS: returns the time slots of the week this section occupies, or null if the section's times cannot be put
+    //          into slots. The returned mask must not be modified.
+    public long[] getOccupancy() {
+        return occupancy;
     }
 
     public int getTerm() {
@@ -115,11 +136,11 @@ public class Section implements Writable {
     }
 
     public int getStartTimeInMinutes() {
-        return HelperUtil.calculateMinutes(startTime);
+        return startMin;
     }
 
     public int getEndTimeInMinutes() {
-        return HelperUtil.calculateMinutes(endTime);
+        return endMin;
     }
 
     public List<List<String>> getAntiRequisiteIDs() {
@@ -132,6 +153,9 @@ public class Section implements Writable {
 
     // EFFECTS: checks if two sections has conflict, (if their times overlap each other or not)
     public boolean hasConflictWith(Section section) {
+        if (occupancy != null && section.getOccupancy() != null) {
+            return TimeMask.intersects(occupancy, section.getOccupancy());
+        }
         if (HelperUtil.hasSameMember(this.weekDays, section.getWeekDays())) {
             return ((this.getStartTimeInMinutes() <= section.getStartTimeInMinutes()
                     && section.getStartTimeInMinutes() < this.getEndTimeInMinutes())
@@ -83,6 +83,12 @@ public class Weight implements Writable {
         this.preferredEndTime = preferredEndTime;
     }
 
+    // EFFECTS: returns a fingerprint of the weights and the preferred times, which is the same for two Weights exactly
+    //          when all of them are the same; used to key results that were scored with this
+    public String getFingerprint() {
+        return compactWeight + "/" + balanceWeight + "/" + preferredStartTime + "-" + preferredEndTime;
+    }
+
     // This code is based on the JsonSerializationDemo example provided for phase2
     // EFFECTS: converts this to a json object
     @Override
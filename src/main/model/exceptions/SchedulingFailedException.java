@@ -0,0 +1,12 @@
+package model.exceptions;
+
+// an exception that gets thrown when the result of a scheduling run that failed is asked for, caused by what made
+// the run fail
+public class SchedulingFailedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    // EFFECTS: constructs an exception caused by the given failure of a run
+    public SchedulingFailedException(Throwable cause) {
+        super(cause);
+    }
+}
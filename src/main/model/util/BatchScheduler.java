@@ -0,0 +1,138 @@
+package model.util;
+
+import model.Schedule;
+import model.exceptions.SchedulingFailedException;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import persistence.JsonReaderSchedulingRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Schedules a batch of requests, one JSON request per line (NDJSON, see JsonReaderSchedulingRequest), for example the
+// course lists of many students in registration season. All requests share one CourseData, which is only read while
+// scheduling, so its bundles and conflict matrices are made once for the whole batch.
+//
+// The requests are run as SchedulingHandles on a fixed pool of threads while the next lines are still being read.
+// The results are written as one line of JSON per request in input order, each as soon as it and every request before
+// it are done:
+//     {"line": 1, "id": "student 1", "status": "COMPLETE", "millis": 12, "schedules": [{"score": 31.5, "sectionIDs":
+//      ["CPSC 110 101", ...]}, ...]}
+// A line that is not a valid request gets {"line": 2, "error": "..."} instead, and a request whose search failed gets
+// its status FAILED and an error instead of schedules. Only a bounded number of requests are
+// in flight at once, so memory does not grow with the size of the batch.
+public class BatchScheduler {
+    private static final int PENDING_PER_THREAD = 4;  // the requests in flight for every thread
+
+    private CourseData data;                          // the course data shared by all requests
+    private int threads;                              // the number of threads that run requests
+
+    // REQUIRES: threads > 0
+    // EFFECTS: constructs a batch scheduler for requests on the given course data, running on the given number of
+    //          threads
+    public BatchScheduler(CourseData data, int threads) {
+        this.data = data;
+        this.threads = threads;
+    }
+
+    // MODIFIES: in, out
+    // EFFECTS: schedules every request read from in, and writes their results to out in input order. Returns the
+    //          number of requests. Throws IOException if in cannot be read, or if the thread is interrupted.
+    public int run(BufferedReader in, PrintWriter out) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        JsonReaderSchedulingRequest reader = new JsonReaderSchedulingRequest(data);
+        Deque<JSONObject> results = new ArrayDeque<>();         // the results that are not written yet
+        Deque<SchedulingHandle> handles = new LinkedList<>();   // tandem queue of their runs, null if invalid
+        int numOfLines = 0;
+        try {
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                numOfLines++;
+                if (!line.trim().isEmpty()) {
+                    submit(reader, line, numOfLines, pool, results, handles);
+                }
+                while (handles.size() >= threads * PENDING_PER_THREAD) {
+                    writeFirst(out, results, handles);
+                }
+            }
+            while (!handles.isEmpty()) {
+                writeFirst(out, results, handles);
+            }
+        } finally {
+            cancelAll(handles);
+            pool.shutdown();
+        }
+        return numOfLines;
+    }
+
+    // MODIFIES: handles
+    // EFFECTS: cancels every run that is still in the queue, so that none of them keeps running after the batch stops
+    private static void cancelAll(Deque<SchedulingHandle> handles) {
+        for (SchedulingHandle handle : handles) {
+            if (handle != null) {
+                handle.cancel();
+            }
+        }
+    }
+
+    // MODIFIES: results, handles
+    // EFFECTS: reads the request on the given line and starts running it on the pool. Adds the start of its result,
+    //          and its handle (null if the line is not a valid request) to the queues.
+    private static void submit(JsonReaderSchedulingRequest reader, String line, int lineNumber, ExecutorService pool,
+                               Deque<JSONObject> results, Deque<SchedulingHandle> handles) {
+        JSONObject result = new JSONObject();
+        result.put("line", lineNumber);
+        try {
+            SchedulingRequest request = reader.read(line);
+            result.put("id", request.getSchedule().getName());
+            handles.add(Scheduler.start(request, pool));
+        } catch (JSONException e) {
+            result.put("error", e.getMessage());
+            handles.add(null);
+        }
+        results.add(result);
+    }
+
+    // REQUIRES: the queues are not empty
+    // MODIFIES: out, results, handles
+    // EFFECTS: waits for the first request of the queues to be done, then removes it and writes its result as a line
+    //          of out. Throws InterruptedIOException if the thread is interrupted while waiting.
+    private static void writeFirst(PrintWriter out, Deque<JSONObject> results, Deque<SchedulingHandle> handles)
+            throws InterruptedIOException {
+        JSONObject result = results.poll();
+        SchedulingHandle handle = handles.poll();
+        if (handle != null) {
+            try {
+                result.put("schedules", toJson(handle));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while scheduling line " + result.getInt("line"));
+            } catch (SchedulingFailedException e) {
+                result.put("error", String.valueOf(e.getCause()));
+            }
+            result.put("status", handle.getStatus().toString());
+            result.put("millis", handle.getElapsedMillis());
+        }
+        out.println(result.toString());
+        out.flush();
+    }
+
+    // EFFECTS: waits for the run to be done, and returns the score and section IDs of each of its best schedules
+    private static JSONArray toJson(SchedulingHandle handle) throws InterruptedException {
+        JSONArray json = new JSONArray();
+        for (Schedule schedule : handle.getSchedules()) {
+            JSONObject scheduleJson = new JSONObject();
+            scheduleJson.put("score", schedule.getScore());
+            scheduleJson.put("sectionIDs", new JSONArray(schedule.getSectionIDs()));
+            json.put(scheduleJson);
+        }
+        return json;
+    }
+}
@@ -0,0 +1,188 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// An approximate search for course selections too large to search exactly. It decides the courses in input order one
+// level at a time, and only keeps the best partial schedules of every level: the beam. Partial schedules are ranked by
+// their optimistic score, the ScoreBound of their overtime penalty, which no schedule finished from them can score
+// above. The compact and balance scores of a partial schedule still change as sections are added, so they only break
+// the ties at the edge of the beam, by the score Schedule.calculateScore gives the partial schedule as it is. Only the
+// candidates whose optimistic score is the one at the edge are scored; further ties keep the order the exact search
+// would try them in. Finished schedules are made the same way as by SearchEngine, so their
+// sections and scores can be compared with the ones of an exact search.
+//
+// A round of the search also keeps the highest upper bound of the partial schedules it drops. No schedule it missed
+// can score above that bound, so it gives the gap between the best schedule found and the best one there is. A round
+// that drops nothing, or that finds a course without any bundles, is exact.
+class BeamSearch {
+    private Schedule template;            // the starting schedule that finished schedules are made from
+    private ScoreBound bound;             // the upper bound of the score of a partial schedule
+    private SchedulingHandle monitor;     // checked in with at every checkpoint, null if none
+    private long nodes;                   // the number of candidate bundles tried in all rounds
+    private float droppedBound;           // the highest upper bound dropped in the last round, -infinity if none
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order (it may be empty)
+    // EFFECTS: constructs a beam search for the finished schedules that can be made from template
+    BeamSearch(Schedule template) {
+        this.template = template;
+        this.bound = new ScoreBound(template.getWeight());
+        this.droppedBound = Float.NEGATIVE_INFINITY;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: the search checks in with the given handle at every checkpoint from now on, and stops if it says so
+    void setMonitor(SchedulingHandle monitor) {
+        this.monitor = monitor;
+    }
+
+    long getNodes() {
+        return nodes;
+    }
+
+    float getDroppedBound() {
+        return droppedBound;
+    }
+
+    // REQUIRES: beamWidth > 0
+    // MODIFIES: this
+    // EFFECTS: runs one round of the search that keeps beamWidth partial schedules per level, and returns the finished
+    //          schedules it found with their scores calculated. Returns null if the monitor said to stop.
+    List<Schedule> run(int beamWidth) {
+        droppedBound = Float.NEGATIVE_INFINITY;
+        List<PartialSchedule> beam = Collections.singletonList(new PartialSchedule());
+        for (int level = 0; level < template.getCourseIDs().size() && !beam.isEmpty(); level++) {
+            List<PartialSchedule> candidates = expand(beam);
+            if (candidates == null) {
+                return null;
+            }
+            beam = select(candidates, beamWidth);
+        }
+        if (beam.isEmpty() && hasCourseWithoutBundles()) {
+            droppedBound = Float.NEGATIVE_INFINITY;
+        }
+        List<Schedule> result = new ArrayList<>();
+        for (PartialSchedule schedule : beam) {
+            result.add(SearchEngine.finish(template, schedule.getBundles().toArray(new Bundle[0])));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns true if a course has no bundles at all, so that no finished schedule can be made
+    private boolean hasCourseWithoutBundles() {
+        for (String courseID : template.getCourseIDs()) {
+            if (template.getCourseData().getBundles(courseID, template.getTerm()).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns every partial schedule of the beam with one bundle of the next course added, in order. Returns
+    //          null if the monitor said to stop.
+    private List<PartialSchedule> expand(List<PartialSchedule> beam) {
+        List<PartialSchedule> candidates = new ArrayList<>();
+        for (PartialSchedule schedule : beam) {
+            for (Bundle bundle : SearchEngine.nextBundles(template, schedule)) {
+                if (monitor != null && nodes % SchedulingHandle.CHECKPOINT_NODES == 0 && !monitor.checkpoint(nodes)) {
+                    return null;
+                }
+                nodes++;
+                candidates.add(schedule.add(bundle));
+            }
+        }
+        return candidates;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the beamWidth best candidates, in order of their optimistic score from high to low and then, for
+    //          the ones tied at the edge of the beam, of their score, and raises the dropped bound to the optimistic
+    //          score of every candidate that is dropped
+    private List<PartialSchedule> select(List<PartialSchedule> candidates, int beamWidth) {
+        if (candidates.size() <= beamWidth) {
+            return candidates;
+        }
+        float[] bounds = new float[candidates.size()];
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = bound.upperBound(overtimePenalty(candidates.get(i)));
+            order.add(i);
+        }
+        Collections.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return Float.compare(bounds[o2], bounds[o1]);
+            }
+        });
+        breakTiesAtEdge(candidates, bounds, order, beamWidth);
+        List<PartialSchedule> result = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            if (i < beamWidth) {
+                result.add(candidates.get(order.get(i)));
+            } else {
+                droppedBound = Math.max(droppedBound, bounds[order.get(i)]);
+            }
+        }
+        return result;
+    }
+
+    // REQUIRES: order has more than beamWidth candidates, sorted by their optimistic score from high to low
+    // MODIFIES: order
+    // EFFECTS: sorts the run of candidates whose optimistic score is the one at the edge of the beam by their score
+    //          from high to low, if that run goes past the edge. No other candidate is scored.
+    private void breakTiesAtEdge(List<PartialSchedule> candidates, float[] bounds, List<Integer> order, int beamWidth) {
+        float edge = bounds[order.get(beamWidth - 1)];
+        if (Float.compare(bounds[order.get(beamWidth)], edge) != 0) {
+            return;
+        }
+        int from = beamWidth - 1;
+        while (from > 0 && Float.compare(bounds[order.get(from - 1)], edge) == 0) {
+            from--;
+        }
+        int to = beamWidth + 1;
+        while (to < order.size() && Float.compare(bounds[order.get(to)], edge) == 0) {
+            to++;
+        }
+        float[] scores = new float[bounds.length];
+        List<Integer> tied = order.subList(from, to);
+        for (int i : tied) {
+            scores[i] = score(candidates.get(i));
+        }
+        Collections.sort(tied, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return Float.compare(scores[o2], scores[o1]);
+            }
+        });
+    }
+
+    // REQUIRES: schedule has at least one bundle
+    // EFFECTS: returns the score Schedule.calculateScore gives the sections of the template and the partial schedule
+    private float score(PartialSchedule schedule) {
+        Schedule result = template.makeCopy();
+        List<Bundle> bundles = schedule.getBundles();
+        for (int course = 0; course < bundles.size(); course++) {
+            int first = course < template.getSectionIDs().size() ? 1 : 0;
+            SearchEngine.addSections(result, bundles.get(course), first, bundles.get(course).getSections().size());
+        }
+        result.calculateScore();
+        return result.getScore();
+    }
+
+    // EFFECTS: returns the overtime penalty of all the sections of the partial schedule
+    private int overtimePenalty(PartialSchedule schedule) {
+        int penalty = 0;
+        for (Bundle bundle : schedule.getBundles()) {
+            for (Section section : bundle.getSections()) {
+                penalty += bound.overtimePenalty(section);
+            }
+        }
+        return penalty;
+    }
+}
@@ -0,0 +1,224 @@
+package model.util;
+
+import model.Section;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// One way to take a course in a term: a root section together with one section from each of its antirequisites (for
+// example a lecture with one of its labs and one of its tutorials), none of which conflict with each other. Expanding
+// a course into its bundles once means a search never has to find out again that a lecture's own lab conflicts with
+// the lecture, and the courses of a schedule can be searched one bundle at a time.
+//
+// A bundle keeps the merged time mask of its sections and their ordinals in the ConflictMatrix of the term, so two
+// bundles can be checked for a conflict with a few bit tests in the rows of the matrix, or else by their masks, without
+// looking at their sections one pair at a time. The matrix is shared by all the bundles of the term, so a bundle only
+// takes memory for its own sections and not for every section of the term. A bundle expanded from
+// a CourseData also keeps the handles of its sections in that data (see CourseData.getOrdinal), so the sections can be
+// added to a Schedule without looking up their section IDs.
+//
+// Bundles of a course whose sections are held at exactly the same times (for example the same lecture with two
+// tutorials at the same hour) are equivalent: they conflict with the same bundles of other courses and give a schedule
+// the same score. A bundle can stand for a whole class of equivalent bundles, which are its equivalents.
+public class Bundle {
+    private List<Section> sections;   // the root section, then one section from each of its antirequisites, in order
+    private long[] occupancy;         // the time slots of all the sections, null if any of them has no mask
+    private int[] ordinals;           // the matrix ordinals of the sections, null if any of them is not in the matrix
+    private ConflictMatrix matrix;    // the conflict matrix of the term that the ordinals are in
+    private int[] handles;            // the handles of the sections in the course data, null if not expanded from it
+    private int index;                // the position of this bundle among the bundles of its course
+    private List<Bundle> equivalents; // the bundles this one stands for, in order, including itself if it is one
+
+    // REQUIRES: sections is not empty, and its first section is the root section
+    // EFFECTS: constructs a bundle of the given sections, using the given matrix of their term for conflict checks.
+    //          The bundle is the only one of its course.
+    public Bundle(List<Section> sections, ConflictMatrix matrix) {
+        this(sections, matrix, 0);
+    }
+
+    // REQUIRES: sections is not empty, and its first section is the root section
+    // EFFECTS: constructs a bundle of the given sections at the given position among the bundles of its course, using
+    //          the given matrix of their term for conflict checks
+    public Bundle(List<Section> sections, ConflictMatrix matrix, int index) {
+        this.sections = Collections.unmodifiableList(new ArrayList<>(sections));
+        this.index = index;
+        this.equivalents = Collections.singletonList(this);
+        this.occupancy = TimeMask.empty();
+        this.ordinals = new int[sections.size()];
+        this.matrix = matrix;
+        for (int i = 0; i < sections.size(); i++) {
+            addOccupancy(sections.get(i));
+            int ordinal = matrix.getOrdinal(sections.get(i).getSectionID());
+            if (ordinal < 0) {
+                ordinals = null;
+            } else if (ordinals != null) {
+                ordinals[i] = ordinal;
+            }
+        }
+    }
+
+    // EFFECTS: constructs a bundle with the sections of the given one that stands for the given equivalents
+    private Bundle(Bundle bundle, List<Bundle> equivalents) {
+        this.sections = bundle.sections;
+        this.occupancy = bundle.occupancy;
+        this.ordinals = bundle.ordinals;
+        this.matrix = bundle.matrix;
+        this.handles = bundle.handles;
+        this.index = bundle.index;
+        this.equivalents = equivalents;
+    }
+
+    // REQUIRES: every antirequisite of the course's root sections in the given term lists sections in data
+    // EFFECTS: returns all the bundles of the given course in the given term, in the order of its root sections and
+    //          then the order of each antirequisite's sections. A root section with an antirequisite that has no
+    //          section without a conflict has no bundles.
+    public static List<Bundle> expand(CourseData data, String courseID, int term) {
+        ConflictMatrix matrix = data.getConflictMatrix(term);
+        List<Bundle> result = new ArrayList<>();
+        for (Section root : data.getRootSections(courseID, term)) {
+            List<List<Section>> antirequisites = new ArrayList<>();
+            for (List<String> sectionIDs : root.getAntiRequisiteIDs()) {
+                antirequisites.add(data.getSections(sectionIDs));
+            }
+            List<Section> chosen = new ArrayList<>();
+            chosen.add(root);
+            expand(antirequisites, chosen, matrix, result);
+        }
+        for (Bundle bundle : result) {
+            bundle.setHandles(data);
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: keeps the handles of the sections in the given course data
+    private void setHandles(CourseData data) {
+        handles = new int[sections.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = data.getOrdinal(sections.get(i).getSectionID());
+        }
+    }
+
+    public Section getRoot() {
+        return sections.get(0);
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    // EFFECTS: returns the handles of the sections in the course data the bundle was expanded from, in order, or null
+    //          if it was not expanded from course data. The array must not be changed.
+    public int[] getHandles() {
+        return handles;
+    }
+
+    public long[] getOccupancy() {
+        return occupancy;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<Bundle> getEquivalents() {
+        return equivalents;
+    }
+
+    // REQUIRES: bundles are all the bundles of one course in one term, in order
+    // EFFECTS: returns one bundle for every class of equivalent bundles, in the order of the first bundle of each
+    //          class. Each returned bundle has the sections of the first bundle of its class, and stands for all the
+    //          bundles of its class.
+    public static List<Bundle> classes(List<Bundle> bundles) {
+        Map<String, List<Bundle>> classes = new LinkedHashMap<>();
+        for (Bundle bundle : bundles) {
+            classes.computeIfAbsent(bundle.timeSignature(), key -> new ArrayList<>()).add(bundle);
+        }
+        List<Bundle> result = new ArrayList<>();
+        for (List<Bundle> equivalents : classes.values()) {
+            result.add(new Bundle(equivalents.get(0), Collections.unmodifiableList(equivalents)));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns true if any section of this bundle has a time conflict with any section of the other bundle
+    public boolean hasConflictWith(Bundle other) {
+        if (ordinals != null && other.ordinals != null && matrix == other.matrix) {
+            for (int ordinal : ordinals) {
+                long[] row = matrix.conflictRow(ordinal);
+                for (int otherOrdinal : other.ordinals) {
+                    if ((row[otherOrdinal / Long.SIZE] & (1L << otherOrdinal)) != 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        if (occupancy != null && other.occupancy != null) {
+            return TimeMask.intersects(occupancy, other.occupancy);
+        }
+        for (Section section : other.sections) {
+            if (hasConflictWith(section)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // EFFECTS: returns true if any section of this bundle has a time conflict with the given section
+    public boolean hasConflictWith(Section section) {
+        return hasConflict(sections, section);
+    }
+
+    // EFFECTS: returns the weekdays and times of the sections, in order. Two bundles of the same course with the same
+    //          time signature are equivalent.
+    private String timeSignature() {
+        StringBuilder signature = new StringBuilder();
+        for (Section section : sections) {
+            signature.append(section.getWeekDays()).append(' ').append(section.getStartTimeInMinutes()).append('-')
+                    .append(section.getEndTimeInMinutes()).append(';');
+        }
+        return signature.toString();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the time slots of the section to the occupancy, or drops the occupancy if the section has no mask
+    private void addOccupancy(Section section) {
+        if (section.getOccupancy() == null) {
+            occupancy = null;
+        } else if (occupancy != null) {
+            TimeMask.addTo(occupancy, section.getOccupancy());
+        }
+    }
+
+    // MODIFIES: chosen, result
+    // EFFECTS: adds to result every bundle that starts with the chosen sections and takes one section from each of the
+    //          antirequisites that are left, without any conflicts
+    private static void expand(List<List<Section>> antirequisites, List<Section> chosen, ConflictMatrix matrix,
+                               List<Bundle> result) {
+        if (chosen.size() == antirequisites.size() + 1) {
+            result.add(new Bundle(chosen, matrix, result.size()));
+            return;
+        }
+        for (Section section : antirequisites.get(chosen.size() - 1)) {
+            if (!hasConflict(chosen, section)) {
+                chosen.add(section);
+                expand(antirequisites, chosen, matrix, result);
+                chosen.remove(chosen.size() - 1);
+            }
+        }
+    }
+
+    // EFFECTS: returns true if any of the given sections has a time conflict with section
+    private static boolean hasConflict(List<Section> sections, Section section) {
+        for (Section own : sections) {
+            if (own.hasConflictWith(section)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,389 @@
+package model.util;
+
+import model.Course;
+import model.Section;
+import model.SectionType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Course data read straight from a binary snapshot of the catalog (see persistence.CatalogSnapshotWriter), which is
+// mapped into memory read only. Opening a snapshot only reads its header and its courses, so it takes no time no
+// matter how big the catalog is, and every program on the machine that opens the same snapshot shares its pages.
+//
+// A snapshot is big-endian, and is made of a header and then these regions, one after another:
+//     header                 ints: MAGIC, VERSION, and the number of strings, courses, courses of the course file,
+//                            sections, antirequisite groups, antirequisite members, course slots and section slots
+//     string offsets         int for every string and one more: where it starts in the string data, and the end
+//     courses                COURSE_BYTES for every course: int ID string, int description string (-1 if none).
+//                            The courses of the course file come first, then those only named by sections.
+//     course section offsets int for every course and one more: where its sections start in course sections
+//     course sections        int section ordinal for every section, grouped by course, in order
+//     sections               SECTION_BYTES for every section: int ID string, int course ordinal, short start minute,
+//                            short end minute, byte SectionType ordinal, byte day mask (see TimeMask.dayMask), byte
+//                            term, byte unused
+//     group offsets          int for every section and one more: where its antirequisite groups start
+//     member offsets         int for every group and one more: where its sections start in members
+//     members                int section ordinal for every section of every group
+//     course slots           int for every slot: 1 + the ordinal of the course whose ID is there, 0 if empty
+//     section slots          int for every slot: 1 + the ordinal of the section whose ID is there, 0 if empty
+//     string data            the UTF-8 bytes of every string, one after another
+// A string is found in the slots by open addressing from the slot of its hash (see slotOf).
+//
+// Sections are made only when they are asked for, and then kept, the same way as by SectionTable, and must not be
+// changed. The snapshot never changes once it is open, so it can be shared by searches on any number of threads.
+public class CatalogSnapshot implements CourseData {
+    public static final int MAGIC = 0x53434154;     // "SCAT"
+    public static final int VERSION = 1;
+    public static final int HEADER_INTS = 10;
+    public static final int COURSE_BYTES = 8;
+    public static final int SECTION_BYTES = 16;
+
+    private static final int COURSE_OFFSET = 4;     // the offsets of the fields of a section record
+    private static final int START_OFFSET = 8;
+    private static final int END_OFFSET = 10;
+    private static final int TYPE_OFFSET = 12;
+    private static final int DAYS_OFFSET = 13;
+    private static final int TERM_OFFSET = 14;
+
+    private ByteBuffer buffer;                                  // the mapped snapshot
+    private int numOfSections;                                  // the number of sections
+    private int numOfCourseSlots;                               // the number of course slots
+    private int numOfSectionSlots;                              // the number of section slots
+    private int stringOffsetsPos;                               // where the string offsets start
+    private int coursesPos;                                     // where the course records start
+    private int courseSectionOffsetsPos;                        // where the course section offsets start
+    private int courseSectionsPos;                              // where the course sections start
+    private int sectionsPos;                                    // where the section records start
+    private int groupOffsetsPos;                                // where the group offsets start
+    private int memberOffsetsPos;                               // where the member offsets start
+    private int membersPos;                                     // where the members start
+    private int courseSlotsPos;                                 // where the course slots start
+    private int sectionSlotsPos;                                // where the section slots start
+    private int stringDataPos;                                  // where the string data starts
+    private List<Course> courses;                               // the courses of the course file, in order
+    private AtomicReferenceArray<Section> views;                // the Section of each ordinal, null until asked for
+    private Map<String, List<Section>> lectures;                // the lectures of each term and course ID, once asked
+    private Map<String, List<Section>> courseSections;          // the sections of each course ID, once asked for
+    private Map<Integer, ConflictMatrix> conflictMatrices;      // the conflict matrix of each term, once asked for
+    private Map<String, List<Bundle>> bundles;                  // the bundles of each term and course ID, once asked
+
+    // EFFECTS: opens the snapshot in the given file. Throws IOException if it cannot be read, or is not a snapshot of
+    //          this version.
+    public CatalogSnapshot(String source) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(source), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_INTS * Integer.BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(source + " is not a catalog snapshot");
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        checkHeader(source);
+        this.views = new AtomicReferenceArray<>(numOfSections);
+        this.lectures = new ConcurrentHashMap<>();
+        this.courseSections = new ConcurrentHashMap<>();
+        this.conflictMatrices = new ConcurrentHashMap<>();
+        this.bundles = new ConcurrentHashMap<>();
+        setCourses();
+    }
+
+    // EFFECTS: returns the number of slots for the given number of strings, a power of two with at least twice as
+    //          many slots as strings
+    public static int numOfSlots(int numOfStrings) {
+        return Integer.highestOneBit(Math.max(1, numOfStrings)) * 4;
+    }
+
+    // REQUIRES: numOfSlots is a power of two
+    // EFFECTS: returns the slot a string with the given hash (String.hashCode) is looked for first
+    public static int slotOf(int hash, int numOfSlots) {
+        return (hash ^ (hash >>> 16)) & (numOfSlots - 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: checks the header and works out where every region starts. Throws IOException if the snapshot is not
+    //          a whole snapshot of this version.
+    private void checkHeader(String source) throws IOException {
+        if (header(0) != MAGIC) {
+            throw new IOException(source + " is not a catalog snapshot");
+        } else if (header(1) != VERSION) {
+            throw new IOException(source + " is a catalog snapshot of version " + header(1));
+        }
+        setPositions();
+        // the string data ends with the end of the last string, header(2) being the number of strings
+        if (stringDataPos < stringOffsetsPos || stringDataPos > buffer.capacity()
+                || stringDataPos + intAt(stringOffsetsPos, header(2)) != buffer.capacity()) {
+            throw new IOException(source + " is not a whole catalog snapshot");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the counts of the header, and works out where every region starts
+    private void setPositions() {
+        int numOfStrings = header(2);
+        int numOfCourses = header(3);
+        int numOfGroups = header(6);
+        int numOfMembers = header(7);
+        numOfSections = header(5);
+        numOfCourseSlots = header(8);
+        numOfSectionSlots = header(9);
+        stringOffsetsPos = HEADER_INTS * Integer.BYTES;
+        coursesPos = stringOffsetsPos + (numOfStrings + 1) * Integer.BYTES;
+        courseSectionOffsetsPos = coursesPos + numOfCourses * COURSE_BYTES;
+        courseSectionsPos = courseSectionOffsetsPos + (numOfCourses + 1) * Integer.BYTES;
+        sectionsPos = courseSectionsPos + numOfSections * Integer.BYTES;
+        groupOffsetsPos = sectionsPos + numOfSections * SECTION_BYTES;
+        memberOffsetsPos = groupOffsetsPos + (numOfSections + 1) * Integer.BYTES;
+        membersPos = memberOffsetsPos + (numOfGroups + 1) * Integer.BYTES;
+        courseSlotsPos = membersPos + numOfMembers * Integer.BYTES;
+        sectionSlotsPos = courseSlotsPos + numOfCourseSlots * Integer.BYTES;
+        stringDataPos = sectionSlotsPos + numOfSectionSlots * Integer.BYTES;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the courses of the course file
+    private void setCourses() {
+        List<Course> result = new ArrayList<>();
+        for (int c = 0; c < header(4); c++) {
+            int description = buffer.getInt(coursesPos + c * COURSE_BYTES + Integer.BYTES);
+            result.add(new Course(string(buffer.getInt(coursesPos + c * COURSE_BYTES)),
+                    description < 0 ? "" : string(description)));
+        }
+        courses = Collections.unmodifiableList(result);
+    }
+
+    // EFFECTS: returns the number of sections in the snapshot
+    public int size() {
+        return numOfSections;
+    }
+
+    // EFFECTS: returns the lectures of the given course in the given term, in order. The list cannot be changed.
+    @Override
+    public List<Section> getRootSections(String courseID, int term) {
+        return lectures.computeIfAbsent(term + " " + courseID, key -> sectionList(courseID, term));
+    }
+
+    // EFFECTS: returns every section of the given course in every term, in order. The list cannot be changed.
+    @Override
+    public List<Section> getSectionsOfCourse(String courseID) {
+        return courseSections.computeIfAbsent(courseID, key -> sectionList(courseID, 0));
+    }
+
+    // EFFECTS: returns the ordinal of the section with the given ID, or -1 if there is no such section
+    @Override
+    public int getOrdinal(String sectionID) {
+        return find(sectionID, sectionSlotsPos, numOfSectionSlots, sectionsPos, SECTION_BYTES);
+    }
+
+    // EFFECTS: returns the section with the given ID, or null if there is no such section
+    @Override
+    public Section getSection(String sectionID) {
+        int ordinal = getOrdinal(sectionID);
+        return ordinal < 0 ? null : getSection(ordinal);
+    }
+
+    // REQUIRES: 0 <= ordinal < size()
+    // EFFECTS: returns the section with the given ordinal, making it the first time it is asked for
+    @Override
+    public Section getSection(int ordinal) {
+        Section view = views.get(ordinal);
+        if (view == null) {
+            views.compareAndSet(ordinal, null, makeView(ordinal));
+            view = views.get(ordinal);
+        }
+        return view;
+    }
+
+    // EFFECTS: returns a list of the sections with the given IDs, with null for an ID that is not a section
+    @Override
+    public List<Section> getSections(List<String> sectionsIDs) {
+        List<Section> result = new ArrayList<>(sectionsIDs.size());
+        for (String sectionID : sectionsIDs) {
+            result.add(getSection(sectionID));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the course of the course file with the given ID, or null if there is none
+    @Override
+    public Course getCourseByID(String courseID) {
+        int ordinal = find(courseID, courseSlotsPos, numOfCourseSlots, coursesPos, COURSE_BYTES);
+        return ordinal < 0 || ordinal >= courses.size() ? null : courses.get(ordinal);
+    }
+
+    // EFFECTS: returns a list of all courses
+    @Override
+    public List<Course> getAllCourse() {
+        return new ArrayList<>(courses);
+    }
+
+    // EFFECTS: returns a list of all course IDs
+    @Override
+    public List<String> getAllCourseIDs() {
+        List<String> result = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            result.add(course.getCourseID());
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the conflict matrix of all the sections in the given term, made the first time it is asked for
+    @Override
+    public ConflictMatrix getConflictMatrix(int term) {
+        return conflictMatrices.computeIfAbsent(term, this::makeConflictMatrix);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns all the bundles of the given course in the given term. They are expanded the first time they
+    //          are asked for, and then shared by every search that uses this data, also from other threads.
+    @Override
+    public List<Bundle> getBundles(String courseID, int term) {
+        return bundles.computeIfAbsent(term + " " + courseID,
+            key -> Collections.unmodifiableList(Bundle.expand(this, courseID, term)));
+    }
+
+    // EFFECTS: returns the sections of the given course in order, only its lectures in the given term if term is not
+    //          0. The list cannot be changed.
+    private List<Section> sectionList(String courseID, int term) {
+        int course = find(courseID, courseSlotsPos, numOfCourseSlots, coursesPos, COURSE_BYTES);
+        if (course < 0) {
+            return Collections.emptyList();
+        }
+        List<Integer> ordinals = new ArrayList<>();
+        for (int i = intAt(courseSectionOffsetsPos, course); i < intAt(courseSectionOffsetsPos, course + 1); i++) {
+            int ordinal = intAt(courseSectionsPos, i);
+            if (term == 0 || isLecture(ordinal) && recordByte(ordinal, TERM_OFFSET) == term) {
+                ordinals.add(ordinal);
+            }
+        }
+        int[] array = new int[ordinals.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ordinals.get(i);
+        }
+        return sectionList(array);
+    }
+
+    // EFFECTS: returns a list of the sections with the given ordinals, which are only made when they are asked for.
+    //          The list cannot be changed.
+    private List<Section> sectionList(int[] ordinals) {
+        return new AbstractList<Section>() {
+            @Override
+            public Section get(int index) {
+                return getSection(ordinals[index]);
+            }
+
+            @Override
+            public int size() {
+                return ordinals.length;
+            }
+        };
+    }
+
+    // EFFECTS: returns the conflict matrix of the sections in the given term, in order
+    private ConflictMatrix makeConflictMatrix(int term) {
+        List<Integer> inTerm = new ArrayList<>();
+        for (int s = 0; s < numOfSections; s++) {
+            if (recordByte(s, TERM_OFFSET) == term) {
+                inTerm.add(s);
+            }
+        }
+        List<String> sectionIDs = new ArrayList<>(inTerm.size());
+        int[] dayMasks = new int[inTerm.size()];
+        int[] startMins = new int[inTerm.size()];
+        int[] endMins = new int[inTerm.size()];
+        for (int i = 0; i < inTerm.size(); i++) {
+            int record = sectionsPos + inTerm.get(i) * SECTION_BYTES;
+            sectionIDs.add(string(buffer.getInt(record)));
+            dayMasks[i] = recordByte(inTerm.get(i), DAYS_OFFSET);
+            startMins[i] = buffer.getShort(record + START_OFFSET);
+            endMins[i] = buffer.getShort(record + END_OFFSET);
+        }
+        return new ConflictMatrix(sectionIDs, dayMasks, startMins, endMins);
+    }
+
+    // EFFECTS: returns a new Section with the fields of the section with the given ordinal
+    private Section makeView(int ordinal) {
+        int record = sectionsPos + ordinal * SECTION_BYTES;
+        List<List<String>> antiRequisiteIDs = new ArrayList<>();
+        for (int g = intAt(groupOffsetsPos, ordinal); g < intAt(groupOffsetsPos, ordinal + 1); g++) {
+            List<String> group = new ArrayList<>();
+            for (int i = intAt(memberOffsetsPos, g); i < intAt(memberOffsetsPos, g + 1); i++) {
+                group.add(string(buffer.getInt(sectionsPos + intAt(membersPos, i) * SECTION_BYTES)));
+            }
+            antiRequisiteIDs.add(group);
+        }
+        return new Section(string(buffer.getInt(record)),
+                string(buffer.getInt(coursesPos + buffer.getInt(record + COURSE_OFFSET) * COURSE_BYTES)),
+                SectionType.values()[recordByte(ordinal, TYPE_OFFSET)],
+                HelperUtil.minutesToShortTime(buffer.getShort(record + START_OFFSET)),
+                HelperUtil.minutesToShortTime(buffer.getShort(record + END_OFFSET)),
+                TimeMask.days(recordByte(ordinal, DAYS_OFFSET)), recordByte(ordinal, TERM_OFFSET), antiRequisiteIDs);
+    }
+
+    // EFFECTS: returns the ordinal of the record whose ID string is the given one, looking in the given slots over
+    //          the records at the given position, or -1 if there is none
+    private int find(String id, int slotsPos, int numOfSlots, int recordsPos, int recordBytes) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        for (int slot = slotOf(id.hashCode(), numOfSlots); intAt(slotsPos, slot) != 0;
+                slot = (slot + 1) & (numOfSlots - 1)) {
+            int ordinal = intAt(slotsPos, slot) - 1;
+            if (stringEquals(buffer.getInt(recordsPos + ordinal * recordBytes), bytes)) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    // EFFECTS: returns true if the string with the given index has the given UTF-8 bytes
+    private boolean stringEquals(int index, byte[] bytes) {
+        int start = stringDataPos + intAt(stringOffsetsPos, index);
+        if (stringDataPos + intAt(stringOffsetsPos, index + 1) - start != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // EFFECTS: returns the string with the given index
+    private String string(int index) {
+        int start = intAt(stringOffsetsPos, index);
+        byte[] bytes = new byte[intAt(stringOffsetsPos, index + 1) - start];
+        ByteBuffer view = buffer.duplicate();
+        view.position(stringDataPos + start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // EFFECTS: returns true if the section with the given ordinal is a lecture
+    private boolean isLecture(int ordinal) {
+        return recordByte(ordinal, TYPE_OFFSET) == SectionType.LECTURE.ordinal();
+    }
+
+    // EFFECTS: returns the byte at the given offset of the record of the section with the given ordinal
+    private int recordByte(int ordinal, int offset) {
+        return buffer.get(sectionsPos + ordinal * SECTION_BYTES + offset);
+    }
+
+    // EFFECTS: returns the int with the given index of the region at the given position
+    private int intAt(int regionPos, int index) {
+        return buffer.getInt(regionPos + index * Integer.BYTES);
+    }
+
+    // EFFECTS: returns the int with the given index of the header
+    private int header(int index) {
+        return intAt(0, index);
+    }
+}
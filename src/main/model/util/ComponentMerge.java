@@ -0,0 +1,208 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+// Finds the best schedules of a schedule whose courses split into more than one independent component (see
+// CourseComponents). Every component is searched on its own, in parallel, for all of its solutions: the ways to take
+// its courses without conflicts. Solutions of different components never conflict, so every combination of one
+// solution from each component is a finished schedule, and the joint search does not have to be done at all.
+//
+// The combinations are made lazily, in order of their total overtime penalty. A priority queue holds the frontier of
+// combinations, starting with the solution with the lowest penalty of every component, and every combination that is
+// taken from it adds the combinations with one solution moved one step further. Since the penalty only grows, the upper
+// bound of the score (see ScoreBound) of the combinations that are left only falls, and the merge stops as soon as it
+// is below the k-th best score found. The schedules are ranked by a bounded ScheduleCollector, like the ones of the
+// joint search, so the result is exactly the same as the first k schedules of the joint search.
+//
+// Only the overtime part of the score is known to fall as the merge goes on: the compact and balance scores depend on
+// how the sections of the components fall on the same days, so they do not split by component. When the penalties tie
+// (for example with a wide preferred window, where every penalty is 0) the merge cannot stop early, and would make a
+// schedule for every combination. So a merge only keeps at most maxCombinations combinations: every component stops
+// being searched once it has more solutions than that, and if the number of combinations is above it the merge drops
+// its solutions and runs the joint branch and bound search instead, whose memory only grows with the depth of the
+// search tree.
+class ComponentMerge {
+    public static final int MAX_COMBINATIONS = 10000; // the most combinations a merge makes schedules for
+
+    private Schedule template;                // the starting schedule that finished schedules are made from
+    private ScoreBound bound;                 // the upper bound of the score of a combination
+    private List<List<Integer>> components;   // the course indices of each component, in input order
+    private List<List<Bundle[]>> solutions;   // the solutions of each component, by penalty from low to high
+    private List<int[]> penalties;            // the overtime penalty of each of those solutions
+    private int maxCombinations;              // the most combinations that are merged instead of searched jointly
+    private boolean merged;                   // true if the combinations are merged, false if searched jointly
+    private int schedulesMade;                // the number of combinations a schedule was made for
+
+    // REQUIRES: components are the components of template (see CourseComponents)
+    // EFFECTS: constructs a merge of the components of template with at most MAX_COMBINATIONS combinations
+    ComponentMerge(Schedule template, List<List<Integer>> components) {
+        this(template, components, MAX_COMBINATIONS);
+    }
+
+    // REQUIRES: components are the components of template (see CourseComponents), maxCombinations > 0
+    // EFFECTS: constructs a merge of the components of template, and searches every component for its solutions in
+    //          parallel. If they make more than maxCombinations combinations, the solutions are dropped and the
+    //          schedules will be found by the joint search instead.
+    ComponentMerge(Schedule template, List<List<Integer>> components, int maxCombinations) {
+        this.template = template;
+        this.bound = new ScoreBound(template.getWeight());
+        this.components = components;
+        this.maxCombinations = maxCombinations;
+        this.solutions = components.parallelStream().map(this::solve).collect(Collectors.toList());
+        this.merged = numOfCombinations() <= maxCombinations;
+        if (!merged) {
+            solutions = null;
+            return;
+        }
+        this.penalties = new ArrayList<>();
+        for (List<Bundle[]> componentSolutions : solutions) {
+            int[] componentPenalties = new int[componentSolutions.size()];
+            for (int i = 0; i < componentPenalties.length; i++) {
+                componentPenalties[i] = overtimePenalty(componentSolutions.get(i));
+            }
+            penalties.add(componentPenalties);
+        }
+    }
+
+    // EFFECTS: returns true if the combinations are merged, false if there are too many and the joint search is run
+    boolean isMerged() {
+        return merged;
+    }
+
+    // EFFECTS: returns the number of combinations that a schedule was made for so far
+    int getSchedulesMade() {
+        return schedulesMade;
+    }
+
+    // REQUIRES: k > 0
+    // EFFECTS: returns the k best schedules that can be made from the template, sorted by their score from high to low
+    List<Schedule> topSchedules(int k) {
+        if (!merged) {
+            return Scheduler.scheduleAndCalculateScore(template, k, new InputOrdering());
+        }
+        ScheduleCollector collector = new ScheduleCollector(k);
+        for (List<Bundle[]> componentSolutions : solutions) {
+            if (componentSolutions.isEmpty()) {
+                return collector.getSchedules();
+            }
+        }
+        PriorityQueue<int[]> frontier = new PriorityQueue<>(new Comparator<int[]>() {
+            @Override
+            public int compare(int[] o1, int[] o2) {
+                return Integer.compare(o1[components.size() + 1], o2[components.size() + 1]);
+            }
+        });
+        frontier.add(withPenalty(new int[components.size() + 2]));
+        while (!frontier.isEmpty()) {
+            int[] combination = frontier.poll();
+            float upperBound = bound.upperBound(combination[components.size() + 1]);
+            if (collector.isFull() && upperBound < collector.getLowestScore()) {
+                break;
+            }
+            collector.add(makeSchedule(combination));
+            addSuccessors(frontier, combination);
+        }
+        return collector.getSchedules();
+    }
+
+    // REQUIRES: combination has a solution index for every component, then the first component that may be moved,
+    //           then room for the penalty
+    // MODIFIES: frontier
+    // EFFECTS: adds every combination with one solution from the first component that may be moved onwards moved one
+    //          step further. Each combination is only ever added once, by moving the components in order.
+    private void addSuccessors(PriorityQueue<int[]> frontier, int[] combination) {
+        for (int component = combination[components.size()]; component < components.size(); component++) {
+            if (combination[component] + 1 < solutions.get(component).size()) {
+                int[] successor = combination.clone();
+                successor[component]++;
+                successor[components.size()] = component;
+                frontier.add(withPenalty(successor));
+            }
+        }
+    }
+
+    // MODIFIES: combination
+    // EFFECTS: sets the last element of the combination to the total overtime penalty of its solutions, and returns it
+    private int[] withPenalty(int[] combination) {
+        int penalty = 0;
+        for (int component = 0; component < components.size(); component++) {
+            penalty += penalties.get(component)[combination[component]];
+        }
+        combination[components.size() + 1] = penalty;
+        return combination;
+    }
+
+    // EFFECTS: returns the product of the numbers of solutions of the components, or Long.MAX_VALUE if it is larger
+    private long numOfCombinations() {
+        long product = 1;
+        for (List<Bundle[]> componentSolutions : solutions) {
+            if (componentSolutions.isEmpty()) {
+                return 0;
+            }
+            product = product > Long.MAX_VALUE / componentSolutions.size()
+                    ? Long.MAX_VALUE : product * componentSolutions.size();
+        }
+        return product;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the finished schedule of the combination, with its score calculated
+    private Schedule makeSchedule(int[] combination) {
+        schedulesMade++;
+        Bundle[] chosen = new Bundle[template.getCourseIDs().size()];
+        for (int component = 0; component < components.size(); component++) {
+            Bundle[] solution = solutions.get(component).get(combination[component]);
+            for (int i = 0; i < solution.length; i++) {
+                chosen[components.get(component).get(i)] = solution[i];
+            }
+        }
+        return SearchEngine.finish(template, chosen);
+    }
+
+    // EFFECTS: returns all the solutions of the given component, sorted by their overtime penalty from low to high.
+    //          Stops after maxCombinations + 1 solutions, since the component alone has too many combinations then.
+    private List<Bundle[]> solve(List<Integer> component) {
+        Schedule componentTemplate = new Schedule(template.getName(), template.getTerm(), template.getWeight(),
+                template.getCourseData());
+        for (int course : component) {
+            componentTemplate.getCourses().add(template.getCourses().get(course));
+            if (course < template.getSectionIDs().size()) {
+                componentTemplate.addSectionID(template.getSectionIDs().get(course));
+            }
+        }
+        List<Bundle[]> result = new ArrayList<>();
+        SearchEngine engine = new SearchEngine(componentTemplate);
+        for (Bundle[] solution = engine.nextSolution(); solution != null; solution = engine.nextSolution()) {
+            result.add(solution);
+            if (result.size() > maxCombinations) {
+                return result;
+            }
+        }
+        Collections.sort(result, new Comparator<Bundle[]>() {
+            @Override
+            public int compare(Bundle[] o1, Bundle[] o2) {
+                return Integer.compare(overtimePenalty(o1), overtimePenalty(o2));
+            }
+        });
+        return result;
+    }
+
+    // EFFECTS: returns the overtime penalty of all the sections of the bundles
+    private int overtimePenalty(Bundle[] bundles) {
+        int penalty = 0;
+        for (Bundle bundle : bundles) {
+            for (Section section : bundle.getSections()) {
+                penalty += bound.overtimePenalty(section);
+            }
+        }
+        return penalty;
+    }
+}
@@ -0,0 +1,76 @@
+package model.util;
+
+import model.Section;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A precomputed table of which sections of one term have a time conflict with each other. Every section is given a
+// dense ordinal from 0 to size() - 1, in the order the sections were given, and row a of the matrix is a bitset where
+// bit b is set if section a has a time conflict with section b. A conflict check between two sections of the matrix is
+// then a single bit test, and a whole set of candidate sections can be checked against a section with its row.
+//
+// The matrix is made once from the sections it is given, so it has to be made again if any of their times change.
+public class ConflictMatrix {
+    private Map<String, Integer> ordinals; // the ordinal of each section ID in the matrix
+    private long[][] rows;                 // bit b of rows[a] is set if sections a and b have a time conflict
+
+    // EFFECTS: constructs the conflict matrix of the given sections, which have different section IDs
+    public ConflictMatrix(List<Section> sections) {
+        this.ordinals = new HashMap<>();
+        this.rows = new long[sections.size()][(sections.size() + Long.SIZE - 1) / Long.SIZE];
+        for (int a = 0; a < sections.size(); a++) {
+            ordinals.put(sections.get(a).getSectionID(), a);
+            for (int b = 0; b <= a; b++) {
+                if (sections.get(a).hasConflictWith(sections.get(b))) {
+                    rows[a][b / Long.SIZE] |= 1L << (b % Long.SIZE);
+                    rows[b][a / Long.SIZE] |= 1L << (a % Long.SIZE);
+                }
+            }
+        }
+    }
+
+    // REQUIRES: the arrays have one entry for each section ID, the section IDs are different, every day mask is a
+    //           mask of days (see TimeMask.dayMask) and every section starts before it ends
+    // EFFECTS: constructs the conflict matrix of the sections with the given IDs, where two sections conflict if they
+    //          are held on a same day at overlapping times. This is the same as the matrix of their Section objects,
+    //          for data that keeps its sections without them (see SectionTable).
+    public ConflictMatrix(List<String> sectionIDs, int[] dayMasks, int[] startMins, int[] endMins) {
+        this.ordinals = new HashMap<>();
+        this.rows = new long[sectionIDs.size()][(sectionIDs.size() + Long.SIZE - 1) / Long.SIZE];
+        for (int a = 0; a < sectionIDs.size(); a++) {
+            ordinals.put(sectionIDs.get(a), a);
+            for (int b = 0; b <= a; b++) {
+                if ((dayMasks[a] & dayMasks[b]) != 0 && startMins[a] < endMins[b] && startMins[b] < endMins[a]) {
+                    rows[a][b / Long.SIZE] |= 1L << (b % Long.SIZE);
+                    rows[b][a / Long.SIZE] |= 1L << (a % Long.SIZE);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the number of sections in the matrix
+    public int size() {
+        return rows.length;
+    }
+
+    // EFFECTS: returns the ordinal of the section with the given ID, or -1 if it is not in the matrix
+    public int getOrdinal(String sectionID) {
+        Integer ordinal = ordinals.get(sectionID);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    // REQUIRES: 0 <= a < size(), 0 <= b < size()
+    // EFFECTS: returns true if the sections with ordinals a and b have a time conflict
+    public boolean conflicts(int a, int b) {
+        return (rows[a][b / Long.SIZE] & (1L << (b % Long.SIZE))) != 0;
+    }
+
+    // REQUIRES: 0 <= a < size()
+    // EFFECTS: returns the row of section a, where bit b is set if section a has a time conflict with section b. The
+    //          row must not be changed.
+    public long[] conflictRow(int a) {
+        return rows[a];
+    }
+}
@@ -0,0 +1,72 @@
+package model.util;
+
+import model.Schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Splits the courses of a schedule into independent components. Two courses are connected if any bundle of one shares
+// a time slot with any bundle of the other, and a component is a group of courses that are connected through each
+// other. Bundles of courses in different components can never conflict, so every component can be searched on its
+// own and any solution of one component can be combined with any solution of another.
+public class CourseComponents {
+
+    private CourseComponents() {
+    }
+
+    // EFFECTS: returns the components of the courses of the given schedule. Each component is a list of course indices
+    //          in input order, and the components are in the order of their first course. A course with a bundle that
+    //          has no time mask is connected to every other course.
+    public static List<List<Integer>> split(Schedule schedule) {
+        List<long[]> unions = new ArrayList<>();
+        for (String courseID : schedule.getCourseIDs()) {
+            unions.add(union(schedule.getCourseData().getBundles(courseID, schedule.getTerm())));
+        }
+        List<List<Integer>> components = new ArrayList<>();
+        boolean[] visited = new boolean[unions.size()];
+        for (int course = 0; course < unions.size(); course++) {
+            if (!visited[course]) {
+                components.add(component(unions, course, visited));
+            }
+        }
+        return components;
+    }
+
+    // MODIFIES: visited
+    // EFFECTS: returns the component of the given course in input order, and marks all of its courses as visited
+    private static List<Integer> component(List<long[]> unions, int course, boolean[] visited) {
+        List<Integer> result = new ArrayList<>();
+        List<Integer> worklist = new ArrayList<>();
+        worklist.add(course);
+        visited[course] = true;
+        while (!worklist.isEmpty()) {
+            int next = worklist.remove(worklist.size() - 1);
+            result.add(next);
+            for (int other = 0; other < unions.size(); other++) {
+                if (!visited[other] && sharesTime(unions.get(next), unions.get(other))) {
+                    visited[other] = true;
+                    worklist.add(other);
+                }
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    // EFFECTS: returns all the time slots occupied by any of the bundles, or null if any of them has no time mask
+    private static long[] union(List<Bundle> bundles) {
+        long[] union = TimeMask.empty();
+        for (Bundle bundle : bundles) {
+            if (bundle.getOccupancy() == null) {
+                return null;
+            }
+            TimeMask.addTo(union, bundle.getOccupancy());
+        }
+        return union;
+    }
+
+    // EFFECTS: returns true if two unions of time slots share any time, where null shares time with everything
+    private static boolean sharesTime(long[] union, long[] other) {
+        return union == null || other == null || TimeMask.intersects(union, other);
+    }
+}
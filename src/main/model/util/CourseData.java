@@ -12,9 +12,18 @@ public interface CourseData {
     // given a course ID, load all root sections
     List<Section> getRootSections(String courseID, int term);
 
+    // given a course ID, gets all its sections in every term
+    List<Section> getSectionsOfCourse(String courseID);
+
+    // given a section ID, gets its dense ordinal in the data, or -1 if there is no such section
+    int getOrdinal(String sectionID);
+
     // given a section ID, load the section
     Section getSection(String sectionID);
 
+    // given the ordinal of a section (see getOrdinal), gets the section
+    Section getSection(int ordinal);
+
     // given list of section IDs, gets sections
     List<Section> getSections(List<String> sectionsIDs);
 
@@ -26,6 +35,12 @@ public interface CourseData {
 
     // returns a list of all course IDs
     List<String> getAllCourseIDs();
+
+    // given a term, gets the conflict matrix of all the sections in that term
+    ConflictMatrix getConflictMatrix(int term);
+
+    // given a course ID and a term, gets all the bundles of the course in that term (see Bundle)
+    List<Bundle> getBundles(String courseID, int term);
 }
 
 
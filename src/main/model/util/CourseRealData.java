@@ -2,12 +2,12 @@ package model.util;
 
 import model.Course;
 import model.Section;
-import model.SectionType;
 import persistence.JsonReaderCourses;
 import persistence.JsonReaderSections;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 // Data used for demo purposes. Contains 8 courses with a few sections from each course. Include methods for loading
 // the data.
@@ -15,6 +15,10 @@ public class CourseRealData implements CourseData {
     private Map<String, Section> sections = new LinkedHashMap<>(); // A hashmap of Sections, with the value being a
     // section, and the key being the corresponding course ID.
     private Map<String, Course> courses = new LinkedHashMap<>(); // A hashmap of course IDs and their description
+    private Map<Integer, ConflictMatrix> conflictMatrices = new HashMap<>(); // The conflict matrix of each term
+    private Map<String, List<Bundle>> bundles = new ConcurrentHashMap<>(); // The bundles of each course and term
+    // that have been asked for, keyed by the term followed by the course ID
+    private SectionIndex index; // The sections by course and term, made when the data is loaded
 
     // EFFECTS: Creates a new CourseRealData with a populated data field.
     public CourseRealData(String sourceCourses, String sourceSections) {
@@ -29,24 +33,29 @@ public class CourseRealData implements CourseData {
             setCoursesFromList(new ArrayList<>());
             setSectionsFromList(new ArrayList<>());
         }
-
-
+        index = new SectionIndex(this.sections.values());
+        setConflictMatrices();
     }
 
     // REQUIRES: given String is a valid course ID
-    // EFFECTS: returns root sections given a course ID. It returns all sections of a course that has antirequisits.
-    //          If there are none, it will return all lectures of the section.
+    // EFFECTS: returns root sections given a course ID: all the lectures of the course in the given term, from the
+    //          index made when the data was loaded. The list cannot be changed.
     @Override
     public List<Section> getRootSections(String courseID, int term) {
-        List<Section> result = new ArrayList<>();
-        for (Section section : sections.values()) {
-            if (courseID.equals(section.getCourseID()) && section.getSectionType() == SectionType.LECTURE
-                    && section.getTerm() == term) {
-                result.add(section);
-            }
-        }
+        return index.getLectures(courseID, term);
+    }
 
-        return result;
+    // EFFECTS: returns every section of the given course in every term. The list cannot be changed.
+    @Override
+    public List<Section> getSectionsOfCourse(String courseID) {
+        return index.getSectionsOfCourse(courseID);
+    }
+
+    // EFFECTS: returns the ordinal of the section with the given ID in the order the sections were loaded, or -1 if
+    //          there is no such section
+    @Override
+    public int getOrdinal(String sectionID) {
+        return index.getOrdinal(sectionID);
     }
 
 
@@ -59,11 +68,18 @@ public class CourseRealData implements CourseData {
     }
 
 
+    // REQUIRES: 0 <= ordinal < the number of sections
+    // EFFECTS: returns the section with the given ordinal (see getOrdinal).
+    @Override
+    public Section getSection(int ordinal) {
+        return index.getSection(ordinal);
+    }
+
     // REQUIRES: given list of strings are all valid Section IDs.
     // EFFECTS: returns a list of Sections corresponding to the given section IDs.
     @Override
     public List<Section> getSections(List<String> sectionsIDs) {
-        List<Section> result = new ArrayList<>();
+        List<Section> result = new ArrayList<>(sectionsIDs.size());
         for (String sectionID : sectionsIDs) {
             result.add(getSection(sectionID));
         }
@@ -104,6 +120,38 @@ public class CourseRealData implements CourseData {
         return courses.get(courseID);
     }
 
+    // EFFECTS: returns the conflict matrix of all the sections in the given term, which was made when the data was
+    //          loaded
+    @Override
+    public ConflictMatrix getConflictMatrix(int term) {
+        ConflictMatrix result = conflictMatrices.get(term);
+        if (result == null) {
+            return new ConflictMatrix(new ArrayList<>());
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns all the bundles of the given course in the given term. They are expanded the first time they
+    //          are asked for, and then shared by every search that uses this data, also from other threads.
+    @Override
+    public List<Bundle> getBundles(String courseID, int term) {
+        return bundles.computeIfAbsent(term + " " + courseID,
+            key -> Collections.unmodifiableList(Bundle.expand(this, courseID, term)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the conflict matrix of every term from the loaded sections
+    private void setConflictMatrices() {
+        Map<Integer, List<Section>> sectionsByTerm = new HashMap<>();
+        for (Section section : sections.values()) {
+            sectionsByTerm.computeIfAbsent(section.getTerm(), term -> new ArrayList<>()).add(section);
+        }
+        for (Map.Entry<Integer, List<Section>> entry : sectionsByTerm.entrySet()) {
+            conflictMatrices.put(entry.getKey(), new ConflictMatrix(entry.getValue()));
+        }
+    }
+
 
 }
 
@@ -7,12 +7,18 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 // Test data for unit tests.
 public class CourseTestData implements CourseData {
     private Map<String, Section> sections = new LinkedHashMap<>(); // a hashmap of Sections, with the value being a
     // section, and the key being the corresponding course ID.
     private Map<String, Course> courses = new LinkedHashMap<>(); // Some course IDs and their description
+    private Map<Integer, ConflictMatrix> conflictMatrices = new ConcurrentHashMap<>(); // the conflict matrix of each
+    // term that has been asked for
+    private Map<String, List<Bundle>> bundles = new ConcurrentHashMap<>(); // the bundles of each course and term that
+    // have been asked for, keyed by the term followed by the course ID
+    private SectionIndex index; // the sections by course and term, made once all of them are added
 
     // EFFECTS: Creates a new CourseTestData with a populated data field.
     @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:SuppressWarnings"})
@@ -116,22 +122,28 @@ public class CourseTestData implements CourseData {
                 "14:00", "15:00", Arrays.asList("Mon", "Tue", "Wed", "Thu", "Fri"), 2,
                 new ArrayList<>()));
 
+        index = new SectionIndex(sections.values());
     }
 
     // REQUIRES: given String is a valid course ID
-    // EFFECTS: returns root sections given a course ID. It returns all sections of a course that has antirequisits.
-    //          If there are none, it will return all lectures of the section.
+    // EFFECTS: returns root sections given a course ID: all the lectures of the course in the given term, from the
+    //          index made when the data was loaded. The list cannot be changed.
     @Override
     public List<Section> getRootSections(String courseID, int term) {
-        List<Section> result = new ArrayList<>();
-        for (Section section : sections.values()) {
-            if (courseID.equals(section.getCourseID()) && section.getSectionType() == SectionType.LECTURE
-                    && section.getTerm() == term) {
-                result.add(section);
-            }
-        }
+        return index.getLectures(courseID, term);
+    }
 
-        return result;
+    // EFFECTS: returns every section of the given course in every term. The list cannot be changed.
+    @Override
+    public List<Section> getSectionsOfCourse(String courseID) {
+        return index.getSectionsOfCourse(courseID);
+    }
+
+    // EFFECTS: returns the ordinal of the section with the given ID in the order the sections were loaded, or -1 if
+    //          there is no such section
+    @Override
+    public int getOrdinal(String sectionID) {
+        return index.getOrdinal(sectionID);
     }
 
 
@@ -144,11 +156,18 @@ public class CourseTestData implements CourseData {
     }
 
 
+    // REQUIRES: 0 <= ordinal < the number of sections
+    // EFFECTS: returns the section with the given ordinal (see getOrdinal).
+    @Override
+    public Section getSection(int ordinal) {
+        return index.getSection(ordinal);
+    }
+
     // REQUIRES: given list of strings are all valid Section IDs.
     // EFFECTS: returns a list of Sections corresponding to the given section IDs.
     @Override
     public List<Section> getSections(List<String> sectionsIDs) {
-        List<Section> result = new ArrayList<>();
+        List<Section> result = new ArrayList<>(sectionsIDs.size());
         for (String sectionID : sectionsIDs) {
             result.add(getSection(sectionID));
         }
@@ -173,4 +192,27 @@ public class CourseTestData implements CourseData {
         return courses.get(courseID);
     }
 
+    // EFFECTS: returns the conflict matrix of all the sections in the given term. It is made the first time the term
+    //          is asked for, and then shared.
+    @Override
+    public ConflictMatrix getConflictMatrix(int term) {
+        return conflictMatrices.computeIfAbsent(term, key -> {
+            List<Section> result = new ArrayList<>();
+            for (Section section : sections.values()) {
+                if (section.getTerm() == term) {
+                    result.add(section);
+                }
+            }
+            return new ConflictMatrix(result);
+        });
+    }
+
+    // EFFECTS: returns all the bundles of the given course in the given term. They are expanded the first time they are
+    //          asked for, and then shared, so the list cannot be changed.
+    @Override
+    public List<Bundle> getBundles(String courseID, int term) {
+        return bundles.computeIfAbsent(term + " " + courseID,
+            key -> Collections.unmodifiableList(Bundle.expand(this, courseID, term)));
+    }
+
 }
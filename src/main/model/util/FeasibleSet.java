@@ -0,0 +1,162 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+import model.Weight;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// All the finished schedules of a starting schedule, kept so that they can be ranked again for any weight without
+// searching again. Which schedules can be made only depends on the courses and the term; the weight only changes
+// their order. The score of a schedule is
+//     (compact score * compact weight + balance score * balance weight) / (1 + overtime penalty)
+// where the compact and balance scores do not depend on the weight at all, and the overtime penalty is the sum of the
+// penalties of its bundles for the preferred times of the weight (see ScoreBound). So the set is searched once by
+// class (see ScheduleClass), and keeps the bundles of every class with its compact and balance scores. Ranking it for
+// a weight only works out the penalty of every bundle once, adds them up for every class and sorts the scores, which
+// gives the same scores as Schedule.calculateScore without making a single Schedule.
+public class FeasibleSet {
+    private Schedule template;        // the starting schedule the schedules are made from
+    private int numOfCourses;         // the number of courses of the template
+    private List<Bundle> choices;     // the bundle of each course of every class, one class after another
+    private float[] compactScores;    // the compact score of every class, before it is weighted
+    private float[] balanceScores;    // the balance score of every class, before it is weighted
+    private long numOfSchedules;      // the number of schedules in all the classes
+
+    // REQUIRES: schedule has no sections yet
+    // EFFECTS: searches for every class of finished schedules of the starting schedule, in the order the search over
+    //          classes finds them, and keeps them with their compact and balance scores
+    public FeasibleSet(Schedule schedule) {
+        this.template = schedule;
+        this.numOfCourses = schedule.getCourseIDs().size();
+        this.choices = new ArrayList<>();
+        List<Float> compact = new ArrayList<>();
+        List<Float> balance = new ArrayList<>();
+        SearchEngine engine = new SearchEngine(schedule, true);
+        for (Bundle[] chosen = engine.nextSolution(); chosen != null; chosen = engine.nextSolution()) {
+            IncrementalScore scorer = new IncrementalScore(schedule.getWeight(), chosen);
+            compact.add(scorer.compactScore());
+            balance.add(scorer.balanceScore());
+            choices.addAll(Arrays.asList(chosen));
+            numOfSchedules += new ScheduleClass(schedule, chosen, 0).size();
+        }
+        this.compactScores = toArray(compact);
+        this.balanceScores = toArray(balance);
+    }
+
+    // EFFECTS: returns the number of classes of schedules
+    public int size() {
+        return compactScores.length;
+    }
+
+    // EFFECTS: returns the number of bundles kept for all the classes, one for every course of every class
+    public int getNumOfBundles() {
+        return choices.size();
+    }
+
+    public long getNumOfSchedules() {
+        return numOfSchedules;
+    }
+
+    public Schedule getTemplate() {
+        return template;
+    }
+
+    // EFFECTS: returns every class of schedules scored with the given weight and sorted by their score from high to
+    //          low, the same as Scheduler.scheduleClassesAndCalculateScore of the template with the given weight. The
+    //          schedules of the classes are only made when they are asked for.
+    public List<ScheduleClass> rank(Weight weight) {
+        Schedule ranked = template(weight);
+        ScoreBound bound = new ScoreBound(weight);
+        Map<Bundle, Integer> penalties = new HashMap<>();
+        float[] scores = new float[size()];
+        long[] keys = new long[scores.length];
+        for (int i = 0; i < keys.length; i++) {
+            scores[i] = score(i, weight, overtimePenalty(i, bound, penalties));
+            keys[i] = ((long) ScheduleCollector.descendingKey(scores[i]) << Integer.SIZE) | i;
+        }
+        Arrays.parallelSort(keys);
+        List<ScheduleClass> result = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            int index = (int) key;
+            result.add(new ScheduleClass(ranked, chosen(index), scores[index]));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns an index of the best class of this set for every ratio of the compact and balance weights, with
+    //          the given preferred times (see WeightSensitivityIndex)
+    public WeightSensitivityIndex sensitivityIndex(int preferredStartTime, int preferredEndTime) {
+        return new WeightSensitivityIndex(this, preferredStartTime, preferredEndTime);
+    }
+
+    // REQUIRES: 0 <= index < size()
+    // EFFECTS: returns the class with the given index scored with the given weight
+    ScheduleClass get(int index, Weight weight) {
+        return new ScheduleClass(template(weight), chosen(index), score(index, weight,
+                overtimePenalty(index, new ScoreBound(weight), new HashMap<>())));
+    }
+
+    // REQUIRES: 0 <= index < size()
+    float getCompactScore(int index) {
+        return compactScores[index];
+    }
+
+    // REQUIRES: 0 <= index < size()
+    float getBalanceScore(int index) {
+        return balanceScores[index];
+    }
+
+    // REQUIRES: 0 <= index < size()
+    // MODIFIES: penalties
+    // EFFECTS: returns the overtime penalty of the class with the given index, adding the penalty of every bundle
+    //          that is not in penalties yet to it
+    int overtimePenalty(int index, ScoreBound bound, Map<Bundle, Integer> penalties) {
+        int penalty = 0;
+        for (Bundle bundle : choices.subList(index * numOfCourses, (index + 1) * numOfCourses)) {
+            penalty += penalties.computeIfAbsent(bundle, b -> overtimePenalty(bound, b));
+        }
+        return penalty;
+    }
+
+    // EFFECTS: returns the score of the class with the given index and overtime penalty for the given weight, the
+    //          same way as Schedule.calculateScore
+    private float score(int index, Weight weight, int penalty) {
+        return (compactScores[index] * weight.getCompactWeight() + balanceScores[index] * weight.getBalanceWeight())
+                * (1 / (float) (1 + penalty));
+    }
+
+    // EFFECTS: returns the bundle of each course of the class with the given index
+    private Bundle[] chosen(int index) {
+        return choices.subList(index * numOfCourses, (index + 1) * numOfCourses).toArray(new Bundle[0]);
+    }
+
+    // EFFECTS: returns a copy of the template with the given weight
+    private Schedule template(Weight weight) {
+        Schedule result = new Schedule(template.getName(), template.getTerm(), weight, template.getCourseData());
+        result.addCoursesByIDs(template.getCourseIDs());
+        return result;
+    }
+
+    // EFFECTS: returns the overtime penalty of all the sections of the bundle
+    private static int overtimePenalty(ScoreBound bound, Bundle bundle) {
+        int penalty = 0;
+        for (Section section : bundle.getSections()) {
+            penalty += bound.overtimePenalty(section);
+        }
+        return penalty;
+    }
+
+    // EFFECTS: returns the values in an array, in order
+    private static float[] toArray(List<Float> values) {
+        float[] result = new float[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+}
@@ -23,6 +23,12 @@ public class HelperUtil {
                 .replace(" ", "0");
     }
 
+    // REQUIRES: 0 <= minutes < 1440
+    // EFFECTS: converts minutes to a time in the form of "h:mm" without a leading zero, the form of the course data
+    public static String minutesToShortTime(int minutes) {
+        return minutes / 60 + ":" + (minutes % 60 < 10 ? "0" : "") + minutes % 60;
+    }
+
 
     // EFFECTS: returns true if two lists of strings contains duplicates
     public static boolean hasSameMember(List<String> stringList1, List<String> stringList2) {
@@ -0,0 +1,153 @@
+package model.util;
+
+import model.Section;
+import model.Weight;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Scores a schedule of one bundle per course while it is changed one course at a time, without making a Schedule or
+// sorting its sections. It gives the same score as Schedule.calculateScore for a schedule without conflicts:
+//     - the gaps between the sections of a day add up to the time from its first start to its last end, minus the
+//       minutes of class, since sections that do not conflict never overlap
+//     - the balance score only needs the minutes of class of each day
+//     - the overtime penalty is the sum of the penalty of every section (see ScoreBound)
+// Each bundle is summed up once into a profile of these numbers for every weekday, so scoring a change only goes over
+// the profiles of the courses and not over their sections.
+class IncrementalScore {
+    private static final List<String> DAYS = Arrays.asList("Mon", "Tue", "Wed", "Thu", "Fri");
+    private static final int FIRST = 0;                   // the offset of the first starts in a profile
+    private static final int LAST = DAYS.size();          // the offset of the last ends in a profile
+    private static final int MINUTES = 2 * DAYS.size();   // the offset of the minutes of class in a profile
+    private static final int PENALTY = 3 * DAYS.size();   // the index of the overtime penalty in a profile
+    private static final int MAX_COMPACT_SCORE = 60 * 10 * 5;
+    private static final int MAX_BALANCE_SCORE = 1728;
+
+    private Weight weight;                      // the weight the schedule is scored with
+    private ScoreBound bound;                   // gives the overtime penalty of a section
+    private Map<Bundle, int[]> profileCache;    // the profile of every bundle seen so far
+    private int[][] profiles;                   // the profile of the bundle of each course
+
+    // REQUIRES: the bundles do not conflict with each other
+    // EFFECTS: constructs a score of the schedule made of the given bundles, one for each course
+    IncrementalScore(Weight weight, Bundle[] bundles) {
+        this.weight = weight;
+        this.bound = new ScoreBound(weight);
+        this.profileCache = new HashMap<>();
+        this.profiles = new int[bundles.length][];
+        for (int course = 0; course < bundles.length; course++) {
+            profiles[course] = profile(bundles[course]);
+        }
+    }
+
+    // REQUIRES: the bundle does not conflict with the bundles of the other courses
+    // MODIFIES: this
+    // EFFECTS: replaces the bundle of the given course
+    void set(int course, Bundle bundle) {
+        profiles[course] = profile(bundle);
+    }
+
+    // EFFECTS: returns the score of the schedule
+    float score() {
+        return scoreWith(-1, null);
+    }
+
+    // REQUIRES: the bundle does not conflict with the bundles of the other courses
+    // MODIFIES: this
+    // EFFECTS: returns the score the schedule would have if the bundle of the given course was replaced by bundle
+    float scoreWith(int course, Bundle bundle) {
+        int[] replacement = bundle == null ? null : profile(bundle);
+        int[] dayMinutes = new int[DAYS.size()];
+        int gaps = gaps(course, replacement, dayMinutes);
+        int penalty = 1;
+        for (int[] profile : profiles) {
+            penalty += profile[PENALTY];
+        }
+        if (replacement != null) {
+            penalty += replacement[PENALTY] - profiles[course][PENALTY];
+        }
+        return (compactScore(gaps) * weight.getCompactWeight() + balanceScore(dayMinutes) * weight.getBalanceWeight())
+                * (1 / (float) penalty);
+    }
+
+    // EFFECTS: returns the compact score of the schedule before it is weighted, the same way as
+    //          Schedule.calculateScore; it does not depend on the weight
+    float compactScore() {
+        return compactScore(gaps(-1, null, new int[DAYS.size()]));
+    }
+
+    // EFFECTS: returns the balance score of the schedule before it is weighted, the same way as
+    //          Schedule.calculateScore; it does not depend on the weight
+    float balanceScore() {
+        int[] dayMinutes = new int[DAYS.size()];
+        gaps(-1, null, dayMinutes);
+        return balanceScore(dayMinutes);
+    }
+
+    // MODIFIES: dayMinutes
+    // EFFECTS: returns the minutes of gaps between the sections of every day if the profile of the given course was
+    //          replaced by replacement (if it is not null), and adds the minutes of class of each day to dayMinutes
+    private int gaps(int course, int[] replacement, int[] dayMinutes) {
+        int gaps = 0;
+        for (int day = 0; day < DAYS.size(); day++) {
+            int first = Integer.MAX_VALUE;
+            int last = Integer.MIN_VALUE;
+            for (int other = 0; other < profiles.length; other++) {
+                int[] profile = other == course ? replacement : profiles[other];
+                first = Math.min(first, profile[FIRST + day]);
+                last = Math.max(last, profile[LAST + day]);
+                dayMinutes[day] += profile[MINUTES + day];
+            }
+            if (first != Integer.MAX_VALUE) {
+                gaps += last - first - dayMinutes[day];
+            }
+        }
+        return gaps;
+    }
+
+    // EFFECTS: returns the compact score of a week with the given minutes of gaps, the same way as
+    //          Schedule.calculateScore
+    private static float compactScore(int gaps) {
+        return 100 * (float) (MAX_COMPACT_SCORE - gaps) / MAX_COMPACT_SCORE;
+    }
+
+    // EFFECTS: returns the balance score of a week with the given minutes of class on each day, the same way as
+    //          Schedule.calculateScore
+    private static float balanceScore(int[] dayMinutes) {
+        int totalTime = 0;
+        for (int minutes : dayMinutes) {
+            totalTime += minutes;
+        }
+        float averageTime = (float) totalTime / DAYS.size();
+        int result = MAX_BALANCE_SCORE;
+        for (int minutes : dayMinutes) {
+            result -= Math.abs(averageTime - minutes);
+        }
+        return 100 * (float) result / MAX_BALANCE_SCORE;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the profile of the bundle: the first start, the last end and the minutes of class of its
+    //          sections on each weekday, and then their overtime penalty
+    private int[] profile(Bundle bundle) {
+        int[] profile = profileCache.get(bundle);
+        if (profile == null) {
+            profile = new int[PENALTY + 1];
+            Arrays.fill(profile, FIRST, LAST, Integer.MAX_VALUE);
+            Arrays.fill(profile, LAST, MINUTES, Integer.MIN_VALUE);
+            for (Section section : bundle.getSections()) {
+                for (String weekDay : section.getWeekDays()) {
+                    int day = DAYS.indexOf(weekDay);
+                    profile[FIRST + day] = Math.min(profile[FIRST + day], section.getStartTimeInMinutes());
+                    profile[LAST + day] = Math.max(profile[LAST + day], section.getEndTimeInMinutes());
+                    profile[MINUTES + day] += section.getEndTimeInMinutes() - section.getStartTimeInMinutes();
+                }
+                profile[PENALTY] += bound.overtimePenalty(section);
+            }
+            profileCache.put(bundle, profile);
+        }
+        return profile;
+    }
+}
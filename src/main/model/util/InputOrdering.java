@@ -0,0 +1,16 @@
+package model.util;
+
+// A VariableOrdering that decides the courses in the order they were added to the schedule. This is the order that
+// Scheduler uses by default.
+public class InputOrdering implements VariableOrdering {
+
+    // EFFECTS: returns the first variable that is not decided
+    @Override
+    public int choose(int[] domainSizes, int[] degrees, boolean[] decided, int from, int to) {
+        int variable = from;
+        while (decided[variable]) {
+            variable++;
+        }
+        return variable;
+    }
+}
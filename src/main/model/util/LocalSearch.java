@@ -0,0 +1,177 @@
+package model.util;
+
+import model.Schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// An optimizer that starts from one finished schedule and keeps improving it with small moves instead of searching
+// every schedule, for course selections too large for an exact search. A move replaces the bundle of one course
+// with another one that does not conflict with the rest of the schedule: either a bundle with the same root section
+// that only has one other lab or tutorial, or any bundle of the course, which can change its lecture. Moves are scored
+// with an IncrementalScore, so a move never makes a Schedule.
+//
+// Moves are accepted by simulated annealing: a move that makes the score better is always taken, and one that makes
+// it worse is taken with a chance that shrinks with how much worse it is and with the time that is left. To keep the
+// search from undoing its last moves, a bundle that was just left is tabu for a few iterations, unless taking it back
+// would beat the best score found. Every search has its own seed, so searches on many threads do not repeat each
+// other.
+class LocalSearch {
+    private static final int CHECK_INTERVAL = 256;         // the number of iterations between two time checks
+    private static final int TABU_TENURE = 8;              // the iterations a bundle stays tabu after it is left
+    private static final float START_TEMPERATURE = 0.5f;   // the first temperature, as a share of the starting score
+
+    private Schedule template;                  // the starting schedule that finished schedules are made from
+    private Random random;                      // chooses the moves and whether worse ones are taken
+    private List<List<Bundle>> bundles;         // the bundles of each course, in order
+    private List<int[][]> neighbours;           // for each bundle of each course, the bundles one section away
+    private Bundle[] current;                   // the bundle of each course in the current schedule
+    private IncrementalScore scorer;            // scores the current schedule and its moves
+    private float currentScore;                 // the score of the current schedule
+    private Bundle[] best;                      // the bundle of each course in the best schedule found
+    private float bestScore;                    // the score of the best schedule found
+    private long[][] tabuUntil;                 // the iteration until which each bundle of each course is tabu
+    private long iteration;                     // the number of moves tried
+    private float temperature;                  // how likely a worse move is taken, 0 to only take better ones
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order (it may be empty)
+    // EFFECTS: constructs a local search for the best schedule that can be made from template, with the given seed
+    LocalSearch(Schedule template, long seed) {
+        this.template = template;
+        this.random = new Random(seed);
+        this.bundles = new ArrayList<>();
+        this.neighbours = new ArrayList<>();
+        for (String courseID : template.getCourseIDs()) {
+            List<Bundle> courseBundles = template.getCourseData().getBundles(courseID, template.getTerm());
+            bundles.add(courseBundles);
+            neighbours.add(neighbours(courseBundles));
+        }
+    }
+
+    long getIterations() {
+        return iteration;
+    }
+
+    // REQUIRES: timeLimit >= 0
+    // MODIFIES: this
+    // EFFECTS: improves the first schedule the exact search finds for the given number of milliseconds, and returns the
+    //          bundle of each course of the best schedule found, in input order. Returns null if there is no finished
+    //          schedule at all.
+    Bundle[] run(long timeLimit) {
+        current = new SearchEngine(template).nextSolution();
+        if (current == null) {
+            return null;
+        }
+        scorer = new IncrementalScore(template.getWeight(), current);
+        currentScore = scorer.score();
+        best = current.clone();
+        bestScore = currentScore;
+        tabuUntil = new long[current.length][];
+        for (int course = 0; course < current.length; course++) {
+            tabuUntil[course] = new long[bundles.get(course).size()];
+        }
+        anneal(timeLimit);
+        return best;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: tries moves for the given number of milliseconds, cooling the temperature down to 0 as time goes by
+    private void anneal(long timeLimit) {
+        long start = System.nanoTime();
+        long duration = timeLimit * 1000000L;
+        float startTemperature = START_TEMPERATURE * Math.max(1, Math.abs(currentScore));
+        for (long elapsed = 0; elapsed < duration && current.length > 0; elapsed = System.nanoTime() - start) {
+            temperature = startTemperature * (duration - elapsed) / duration;
+            for (int i = 0; i < CHECK_INTERVAL; i++) {
+                step();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: tries one random move, and takes it if it fits into the schedule, is not tabu and is accepted
+    private void step() {
+        iteration++;
+        int course = random.nextInt(current.length);
+        Bundle bundle = randomMove(course);
+        if (bundle == current[course] || !fits(course, bundle)) {
+            return;
+        }
+        float score = scorer.scoreWith(course, bundle);
+        boolean tabu = tabuUntil[course][bundle.getIndex()] > iteration && score <= bestScore;
+        if (tabu || !isAccepted(score - currentScore)) {
+            return;
+        }
+        tabuUntil[course][current[course].getIndex()] = iteration + TABU_TENURE;
+        current[course] = bundle;
+        scorer.set(course, bundle);
+        currentScore = score;
+        if (score > bestScore) {
+            bestScore = score;
+            best = current.clone();
+        }
+    }
+
+    // EFFECTS: returns a random bundle of the given course: one section away from its current bundle half of the
+    //          time if there is one, or else any of its bundles
+    private Bundle randomMove(int course) {
+        int[] options = neighbours.get(course)[current[course].getIndex()];
+        List<Bundle> courseBundles = bundles.get(course);
+        if (options.length > 0 && random.nextBoolean()) {
+            return courseBundles.get(options[random.nextInt(options.length)]);
+        }
+        return courseBundles.get(random.nextInt(courseBundles.size()));
+    }
+
+    // EFFECTS: returns true if the bundle can replace the bundle of the given course: it keeps the root section the
+    //          template has for the course, and does not conflict with the bundle of any other course
+    private boolean fits(int course, Bundle bundle) {
+        List<String> sectionIDs = template.getSectionIDs();
+        if (course < sectionIDs.size() && !sectionIDs.get(course).equals(bundle.getRoot().getSectionID())) {
+            return false;
+        }
+        for (int other = 0; other < current.length; other++) {
+            if (other != course && bundle.hasConflictWith(current[other])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // EFFECTS: returns true if a move that changes the score by delta is taken
+    private boolean isAccepted(float delta) {
+        return delta >= 0 || temperature > 0 && random.nextDouble() < Math.exp(delta / temperature);
+    }
+
+    // EFFECTS: returns, for each of the bundles, the indices of the bundles with the same sections except for one
+    //          lab or tutorial
+    private static int[][] neighbours(List<Bundle> courseBundles) {
+        int[][] result = new int[courseBundles.size()][];
+        for (int i = 0; i < courseBundles.size(); i++) {
+            List<Integer> indices = new ArrayList<>();
+            for (int j = 0; j < courseBundles.size(); j++) {
+                if (differences(courseBundles.get(i), courseBundles.get(j)) == 1) {
+                    indices.add(j);
+                }
+            }
+            result[i] = indices.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the number of positions at which the bundles have other sections, or -1 if their root
+    //          sections or their number of sections are not the same
+    private static int differences(Bundle bundle, Bundle other) {
+        if (bundle.getRoot() != other.getRoot() || bundle.getSections().size() != other.getSections().size()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 1; i < bundle.getSections().size(); i++) {
+            if (bundle.getSections().get(i) != other.getSections().get(i)) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
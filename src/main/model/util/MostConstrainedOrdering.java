@@ -0,0 +1,24 @@
+package model.util;
+
+// A VariableOrdering that decides the course with the fewest bundles left that do not conflict with the partial
+// schedule, so dead ends are found near the top of the search tree instead of at the bottom. Ties are broken by
+// choosing the course that shares time with the most other courses, and then by input order.
+public class MostConstrainedOrdering implements VariableOrdering {
+
+    // EFFECTS: returns the variable that is not decided with the smallest domain, breaking ties by the highest degree
+    //          and then the lowest index
+    @Override
+    public int choose(int[] domainSizes, int[] degrees, boolean[] decided, int from, int to) {
+        int best = -1;
+        for (int variable = from; variable < to; variable++) {
+            if (decided[variable]) {
+                continue;
+            }
+            if (best == -1 || domainSizes[variable] < domainSizes[best]
+                    || domainSizes[variable] == domainSizes[best] && degrees[variable] > degrees[best]) {
+                best = variable;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,55 @@
+package model.util;
+
+import model.Schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+// A fork/join task that finishes one partial schedule, used by Scheduler.scheduleAndCalculateScoreInParallel. The
+// task either forks one subtask for every bundle of the next course, or searches the rest of the tree itself with a
+// SearchEngine. The bundles of the first course are always forked. Further down, a task only
+// forks its branches while the pool is short of queued work, so large branches keep getting split up for idle threads
+// to steal while small ones are finished without any overhead.
+//
+// The results of the branches are joined in the same order as the serial search makes them, so the returned list is
+// in the same order as a SearchEngine finds them, and the finished schedules have been given a score.
+class ParallelScheduleTask extends RecursiveTask<List<Schedule>> {
+    private static final long serialVersionUID = 1L;
+    private static final int SURPLUS_TASKS = 2; // fork while fewer than this many tasks are waiting per thread
+
+    private Schedule template;                  // the starting schedule that finished schedules are made from
+    private PartialSchedule schedule;           // the partial schedule to finish
+
+    // EFFECTS: constructs a task that finishes the given schedule, which has no sections yet
+    ParallelScheduleTask(Schedule template) {
+        this(template, new PartialSchedule());
+    }
+
+    // EFFECTS: constructs a task that finishes the given partial schedule
+    private ParallelScheduleTask(Schedule template, PartialSchedule schedule) {
+        this.template = template;
+        this.schedule = schedule;
+    }
+
+    // EFFECTS: returns all the finished schedules that can be made from this task's schedule, with their scores
+    //          calculated
+    @Override
+    protected List<Schedule> compute() {
+        List<Bundle> bundles = SearchEngine.nextBundles(template, schedule);
+        boolean isFirstCourse = schedule.getLevel() == 0;
+        if (bundles == null || !isFirstCourse && getSurplusQueuedTaskCount() >= SURPLUS_TASKS) {
+            return new SearchEngine(template, schedule, null).toList();
+        }
+        List<ParallelScheduleTask> subtasks = new ArrayList<>();
+        for (Bundle bundle : bundles) {
+            subtasks.add(new ParallelScheduleTask(template, schedule.add(bundle)));
+        }
+        invokeAll(subtasks);
+        List<Schedule> result = new ArrayList<>();
+        for (ParallelScheduleTask subtask : subtasks) {
+            result.addAll(subtask.join());
+        }
+        return result;
+    }
+}
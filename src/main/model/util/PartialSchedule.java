@@ -0,0 +1,65 @@
+package model.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// An immutable partial schedule used while searching. It is a linked list of bundles with the newest bundle first:
+// adding a bundle makes a new PartialSchedule that points to this one, so every branch of a search shares all of its
+// bundles with its parent instead of copying them. A full Schedule is only made for the schedules that are returned
+// by a search.
+public class PartialSchedule {
+    private PartialSchedule parent;   // the partial schedule without the newest bundle, null if this one is empty
+    private Bundle bundle;            // the newest bundle, null if this partial schedule is empty
+    private int level;                // the number of bundles in this partial schedule
+
+    // EFFECTS: constructs a partial schedule with no bundles
+    public PartialSchedule() {
+        this(null, null, 0);
+    }
+
+    // EFFECTS: constructs a partial schedule with the bundles of parent followed by bundle
+    private PartialSchedule(PartialSchedule parent, Bundle bundle, int level) {
+        this.parent = parent;
+        this.bundle = bundle;
+        this.level = level;
+    }
+
+    public PartialSchedule getParent() {
+        return parent;
+    }
+
+    public Bundle getBundle() {
+        return bundle;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    // EFFECTS: returns a partial schedule with the bundles of this one followed by the given bundle. This partial
+    //          schedule is not changed.
+    public PartialSchedule add(Bundle bundle) {
+        return new PartialSchedule(this, bundle, level + 1);
+    }
+
+    // EFFECTS: returns true if the given bundle has a time conflict with a bundle in this partial schedule
+    public boolean hasConflictWith(Bundle bundle) {
+        for (PartialSchedule node = this; node.bundle != null; node = node.parent) {
+            if (node.bundle.hasConflictWith(bundle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // EFFECTS: returns the bundles of this partial schedule from oldest to newest
+    public List<Bundle> getBundles() {
+        List<Bundle> bundles = new ArrayList<>(level);
+        for (PartialSchedule node = this; node.bundle != null; node = node.parent) {
+            bundles.add(node.bundle);
+        }
+        Collections.reverse(bundles);
+        return bundles;
+    }
+}
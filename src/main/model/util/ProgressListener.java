@@ -0,0 +1,15 @@
+package model.util;
+
+// Listens to the progress of a scheduling run started from a SchedulingRequest. It is called on the thread that runs
+// the search, so it should return quickly.
+public interface ProgressListener {
+    // EFFECTS: is told how many candidate bundles the search has tried so far, how many finished schedules it has
+    //          found, and the best score among them (negative infinity if none were found yet)
+    void onProgress(long nodes, int schedulesFound, float bestScore);
+
+    // EFFECTS: is told that a round of an approximate search with the given beam width is over, the best score found
+    //          so far, and how much higher the best score there is can be at most (positive infinity if not known, 0
+    //          if the best schedules found are exact). Does nothing unless overridden.
+    default void onRoundFinished(int beamWidth, float bestScore, float gap) {
+    }
+}
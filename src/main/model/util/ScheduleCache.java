@@ -0,0 +1,152 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// A cache of the results of a search over all the schedules of a starting schedule, such as
+// Scheduler.scheduleAndCalculateScore, for users that ask for the same courses again and again. A result is keyed by
+// the term, the course IDs sorted and the fingerprint of the weight (see Weight.getFingerprint), so the order the
+// courses were chosen in does not matter: every search is done on a copy of the starting schedule with its courses
+// sorted and without a name, so a result is the same no matter which request made it. A search whose result does not
+// depend on the weight, such as a FeasibleSet, is keyed without it, so that it is shared by every weight.
+//
+// The cache keeps its results in least recently used order and drops the least recently used ones as soon as it has
+// more than its number of entries, or more than its weight: the sum of the weights of all its results, such as the
+// number of bundles of a FeasibleSet, which is what their memory grows with. A result heavier than the whole cache is
+// not kept at all. Results are computed outside of
+// the lock, so a miss does not hold up the other users; two users that miss the same key at once both search, and the
+// second result is kept.
+//
+// All the results were made with one CourseData. A schedule made with another one, for example after the catalog was
+// reloaded, clears the cache before it is looked up. The results returned are shared by every user of the cache, so
+// they must be copied before they are changed.
+public class ScheduleCache<T> {
+    private Function<Schedule, T> search;      // makes the result of a starting schedule
+    private ToLongFunction<T> weigher;         // gives the weight of a result
+    private int maxEntries;                    // the greatest number of results kept
+    private long maxWeight;                    // the greatest total weight of the results kept
+    private boolean byWeight;                  // true if the weight is part of the key
+    private LinkedHashMap<String, T> entries;  // the results by key, least recently used first
+    private long weight;                       // the total weight of the results kept
+    private CourseData data;                   // the course data of the results kept, null if none
+    private long hits;                         // the number of lookups that found their result
+    private long misses;                       // the number of lookups that had to search
+    private long evictions;                    // the number of results dropped to stay within the bounds
+
+    // REQUIRES: maxEntries > 0, maxWeight > 0
+    // EFFECTS: constructs an empty cache of the results of the given search, that keeps at most maxEntries results
+    //          with a total weight of at most maxWeight, where weigher gives the weight of a result. The results are
+    //          keyed by the weight of the starting schedule too if byWeight is true.
+    public ScheduleCache(Function<Schedule, T> search, ToLongFunction<T> weigher, int maxEntries,
+                         long maxWeight, boolean byWeight) {
+        this.search = search;
+        this.weigher = weigher;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.byWeight = byWeight;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // REQUIRES: maxEntries > 0, maxBundles > 0
+    // EFFECTS: returns a cache of the FeasibleSet of the courses and term of a starting schedule, one for every weight,
+    //          that keeps at most maxEntries sets with at most maxBundles bundles in all of them (see
+    //          FeasibleSet.getNumOfBundles)
+    public static ScheduleCache<FeasibleSet> forFeasibleSets(int maxEntries, long maxBundles) {
+        return new ScheduleCache<>(FeasibleSet::new, FeasibleSet::getNumOfBundles, maxEntries, maxBundles, false);
+    }
+
+    // REQUIRES: schedule has no sections yet
+    // MODIFIES: this
+    // EFFECTS: returns the result of the search of an unnamed copy of schedule with its courses sorted, from the
+    //          cache if it is there, or else searches for it and keeps it
+    public T get(Schedule schedule) {
+        String key = key(schedule, byWeight);
+        synchronized (this) {
+            if (schedule.getCourseData() != data) {
+                invalidate();
+                data = schedule.getCourseData();
+            }
+            T result = entries.get(key);
+            if (result != null) {
+                hits++;
+                return result;
+            }
+            misses++;
+        }
+        T result = search.apply(sorted(schedule));
+        put(key, result, schedule.getCourseData());
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: keeps the result under the given key if it was made with the course data of the cache, then drops the
+    //          least recently used results until the cache is within its bounds
+    private synchronized void put(String key, T result, CourseData resultData) {
+        if (resultData != data) {
+            return;
+        }
+        T old = entries.put(key, result);
+        weight += weigher.applyAsLong(result) - (old == null ? 0 : weigher.applyAsLong(old));
+        Iterator<T> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            weight -= weigher.applyAsLong(iterator.next());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: drops every result, for example after the course data was reloaded
+    public synchronized void invalidate() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    // EFFECTS: returns the key of the starting schedule: its term, its course IDs sorted and its weight if byWeight
+    private static String key(Schedule schedule, boolean byWeight) {
+        List<String> courseIDs = new ArrayList<>(schedule.getCourseIDs());
+        Collections.sort(courseIDs);
+        String key = schedule.getTerm() + "|" + courseIDs;
+        return byWeight ? key + "|" + schedule.getWeight().getFingerprint() : key;
+    }
+
+    // EFFECTS: returns an unnamed copy of the starting schedule with its courses sorted by ID
+    private static Schedule sorted(Schedule schedule) {
+        List<String> courseIDs = new ArrayList<>(schedule.getCourseIDs());
+        Collections.sort(courseIDs);
+        Weight weight = schedule.getWeight();
+        Schedule result = new Schedule("", schedule.getTerm(), new Weight(weight.getCompactWeight(),
+                weight.getBalanceWeight(), weight.getPreferredStartTime(), weight.getPreferredEndTime()),
+                schedule.getCourseData());
+        result.addCoursesByIDs(courseIDs);
+        return result;
+    }
+}
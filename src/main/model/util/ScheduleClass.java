@@ -0,0 +1,117 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A class of finished schedules that only differ in sections that are held at exactly the same times, found by a
+// search over classes of equivalent bundles (see Bundle). All the schedules of a class have the same score, so a
+// search only has to make one schedule for the whole class: the one made of the first bundle of every class. The other
+// schedules are only made when they are asked for, by expanding the class.
+//
+// The schedules of a class are numbered in the order the search over all bundles would find them with the input
+// ordering, so expanding a class from 0 to size() - 1 gives its schedules in that order.
+public class ScheduleClass {
+    private Schedule template;          // the starting schedule that the schedules are made from
+    private Bundle[] chosen;            // the bundle chosen for each course, standing for all its equivalents
+    private Schedule schedule;          // the first schedule of the class, with its score calculated, null until made
+    private float score;                // the score of the schedules of the class
+
+    // REQUIRES: chosen has the bundle of every course of template, in input order
+    // EFFECTS: constructs the class of schedules made from the equivalents of the chosen bundles, and makes its first
+    //          schedule
+    ScheduleClass(Schedule template, Bundle[] chosen) {
+        this.template = template;
+        this.chosen = chosen;
+        this.schedule = SearchEngine.finish(template, chosen);
+        this.score = schedule.getScore();
+    }
+
+    // REQUIRES: chosen has the bundle of every course of template, in input order, and score is the score of their
+    //           schedule
+    // EFFECTS: constructs the class of schedules made from the equivalents of the chosen bundles with the given score;
+    //          its first schedule is only made when it is asked for
+    ScheduleClass(Schedule template, Bundle[] chosen, float score) {
+        this.template = template;
+        this.chosen = chosen;
+        this.score = score;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the first schedule of the class, making it if it was not made yet
+    public Schedule getSchedule() {
+        if (schedule == null) {
+            schedule = SearchEngine.finish(template, chosen);
+        }
+        return schedule;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    // EFFECTS: returns the number of schedules in this class
+    public long size() {
+        long size = 1;
+        for (Bundle bundle : chosen) {
+            size *= bundle.getEquivalents().size();
+        }
+        return size;
+    }
+
+    // REQUIRES: 0 <= index < size()
+    // EFFECTS: returns the schedule of this class with the given number, with its score calculated. Schedule 0 is
+    //          getSchedule() itself.
+    public Schedule expand(long index) {
+        if (index == 0) {
+            return getSchedule();
+        }
+        Bundle[] bundles = new Bundle[chosen.length];
+        long rest = index;
+        for (int course = chosen.length - 1; course >= 0; course--) {
+            List<Bundle> equivalents = chosen[course].getEquivalents();
+            bundles[course] = equivalents.get((int) (rest % equivalents.size()));
+            rest /= equivalents.size();
+        }
+        return SearchEngine.finish(template, bundles);
+    }
+
+    // EFFECTS: returns all the schedules of this class in order, with their scores calculated
+    public List<Schedule> expandAll() {
+        List<Schedule> result = new ArrayList<>();
+        for (long index = 0; index < size(); index++) {
+            result.add(expand(index));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns, for every section of getSchedule() in the same order, the IDs of the sections that can take
+    //          its place in the other schedules of this class, starting with its own ID
+    public List<List<String>> getInterchangeableSectionIDs() {
+        List<List<String>> result = new ArrayList<>();
+        for (int course = template.getSectionIDs().size(); course < chosen.length; course++) {
+            result.add(interchangeableSectionIDs(course, 0));
+        }
+        for (int course = 0; course < chosen.length; course++) {
+            for (int position = 1; position < chosen[course].getSections().size(); position++) {
+                result.add(interchangeableSectionIDs(course, position));
+            }
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the IDs of the sections at the given position of the equivalents of the given course's bundle,
+    //          in order and without duplicates
+    private List<String> interchangeableSectionIDs(int course, int position) {
+        List<String> sectionIDs = new ArrayList<>();
+        for (Bundle bundle : chosen[course].getEquivalents()) {
+            Section section = bundle.getSections().get(position);
+            if (!sectionIDs.contains(section.getSectionID())) {
+                sectionIDs.add(section.getSectionID());
+            }
+        }
+        return sectionIDs;
+    }
+}
@@ -0,0 +1,139 @@
+package model.util;
+
+import model.Schedule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Collects the finished schedules of a search as they are found, and ranks them by their score from high to low.
+// Schedules with the same score are ranked by their section IDs, compared one by one in alphabetical order, so the
+// ranking never depends on the order a search finds the schedules in.
+//
+// A bounded collector only keeps the best k schedules, in a min-heap with the lowest ranked of them on top, so its
+// memory only grows with k and not with the number of schedules a search finds. A collector that keeps everything
+// stores the schedules in a list and ranks them at the end with a parallel sort of primitive keys made from their
+// scores, and only compares section IDs among schedules with the same score.
+public class ScheduleCollector {
+    // ranks schedules by score from high to low, and then by their section IDs
+    public static final Comparator<Schedule> BEST_FIRST = new Comparator<Schedule>() {
+        @Override
+        public int compare(Schedule o1, Schedule o2) {
+            int byScore = Float.compare(o2.getScore(), o1.getScore());
+            return byScore != 0 ? byScore : compareSectionIDs(o1.getSectionIDs(), o2.getSectionIDs());
+        }
+    };
+    public static final int INITIAL_HEAP_CAPACITY = 64;
+
+    private int capacity;                     // the number of schedules that are kept, 0 if all are kept
+    private PriorityQueue<Schedule> heap;     // the best schedules so far with the lowest ranked on top, if bounded
+    private List<Schedule> schedules;         // all the schedules in the order they were added, if not bounded
+
+    // EFFECTS: constructs a collector that keeps every schedule
+    public ScheduleCollector() {
+        this.capacity = 0;
+        this.schedules = new ArrayList<>();
+    }
+
+    // REQUIRES: k > 0
+    // EFFECTS: constructs a collector that only keeps the k best schedules. The heap starts small and grows with the
+    //          schedules actually kept, so a large k costs nothing until that many schedules are found.
+    public ScheduleCollector(int k) {
+        this.capacity = k;
+        this.heap = new PriorityQueue<>(Math.min(k, INITIAL_HEAP_CAPACITY), Collections.reverseOrder(BEST_FIRST));
+    }
+
+    // REQUIRES: schedule has its score calculated
+    // MODIFIES: this
+    // EFFECTS: adds the schedule. If the collector is bounded and already full, the schedule replaces the lowest
+    //          ranked one if it ranks before it, and is dropped otherwise.
+    public void add(Schedule schedule) {
+        if (heap == null) {
+            schedules.add(schedule);
+        } else if (heap.size() < capacity) {
+            heap.add(schedule);
+        } else if (BEST_FIRST.compare(schedule, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(schedule);
+        }
+    }
+
+    // EFFECTS: returns the number of schedules kept
+    public int size() {
+        return heap == null ? schedules.size() : heap.size();
+    }
+
+    // EFFECTS: returns true if the collector is bounded and has k schedules, so that only schedules that rank before
+    //          its lowest ranked one can still be kept
+    public boolean isFull() {
+        return heap != null && heap.size() == capacity;
+    }
+
+    // REQUIRES: size() > 0
+    // EFFECTS: returns the lowest score of the schedules kept
+    public float getLowestScore() {
+        if (heap != null) {
+            return heap.peek().getScore();
+        }
+        float lowest = Float.POSITIVE_INFINITY;
+        for (Schedule schedule : schedules) {
+            lowest = Math.min(lowest, schedule.getScore());
+        }
+        return lowest;
+    }
+
+    // EFFECTS: returns the schedules kept, ranked from best to worst
+    public List<Schedule> getSchedules() {
+        if (heap != null) {
+            List<Schedule> result = new ArrayList<>(heap);
+            result.sort(BEST_FIRST);
+            return result;
+        }
+        long[] keys = new long[schedules.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) descendingKey(schedules.get(i).getScore()) << Integer.SIZE) | i;
+        }
+        Arrays.parallelSort(keys);
+        List<Schedule> result = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            result.add(schedules.get((int) key));
+        }
+        sortTies(result);
+        return result;
+    }
+
+    // REQUIRES: schedules is sorted by score from high to low
+    // MODIFIES: schedules
+    // EFFECTS: sorts every run of schedules with the same score by their section IDs
+    private static void sortTies(List<Schedule> schedules) {
+        int start = 0;
+        for (int end = 1; end <= schedules.size(); end++) {
+            if (end == schedules.size() || schedules.get(end).getScore() != schedules.get(start).getScore()) {
+                if (end - start > 1) {
+                    schedules.subList(start, end).sort(BEST_FIRST);
+                }
+                start = end;
+            }
+        }
+    }
+
+    // EFFECTS: returns an int that sorts in ascending order as the given scores sort in descending order
+    static int descendingKey(float score) {
+        int bits = Float.floatToIntBits(score);
+        return ~(bits ^ ((bits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE));
+    }
+
+    // EFFECTS: compares two lists of section IDs one ID at a time in alphabetical order, and then by their length
+    private static int compareSectionIDs(List<String> sectionIDs, List<String> other) {
+        for (int i = 0; i < Math.min(sectionIDs.size(), other.size()); i++) {
+            int byID = sectionIDs.get(i).compareTo(other.get(i));
+            if (byID != 0) {
+                return byID;
+            }
+        }
+        return Integer.compare(sectionIDs.size(), other.size());
+    }
+}
@@ -0,0 +1,51 @@
+package model.util;
+
+import model.Schedule;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// An iterator over all the finished schedules that can be made from a starting schedule. It makes the same schedules
+// as Scheduler.scheduleAndCalculateScore in the order the search finds them, but only makes the next one when it is
+// asked for, so a caller can stop early or filter the schedules without ever holding all of them in memory. The
+// search itself is done by a SearchEngine, which only keeps one partial schedule for every level of the search tree.
+public class ScheduleIterator implements Iterator<Schedule> {
+    private SearchEngine engine;     // the search that makes the schedules
+    private Schedule nextSchedule;   // the next finished schedule, null if not found yet
+
+    // REQUIRES: schedule has no sections yet
+    // EFFECTS: constructs an iterator over the finished schedules that can be made from the given schedule
+    public ScheduleIterator(Schedule schedule) {
+        this.engine = new SearchEngine(schedule);
+    }
+
+    // REQUIRES: schedule has no sections yet
+    // EFFECTS: constructs an iterator over the finished schedules that can be made from the given schedule, which
+    //          decides the courses in the given order
+    public ScheduleIterator(Schedule schedule, VariableOrdering ordering) {
+        this.engine = new SearchEngine(schedule, null, ordering);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if there is another finished schedule
+    @Override
+    public boolean hasNext() {
+        if (nextSchedule == null) {
+            nextSchedule = engine.next();
+        }
+        return nextSchedule != null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next finished schedule, with its score calculated. Throws NoSuchElementException if there
+    //          are no more schedules.
+    @Override
+    public Schedule next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Schedule result = nextSchedule;
+        nextSchedule = null;
+        return result;
+    }
+}
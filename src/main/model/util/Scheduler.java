@@ -1,9 +1,13 @@
 package model.util;
 
 import model.Schedule;
-import model.Section;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 // SCHEDULER GUIDE
 // Each course can have one or multiple sections. A root section is any lecture sections, and each root section in the
@@ -11,16 +15,16 @@ import java.util.*;
 // sections.json file, you can see that the first section is the lecture PHYS 117 101, which has a list of
 // antirequisites which are all the tutroials that correspond to PHYS 117 101.
 
-// This scheduler works by first taking in an empty Schedule, which has a list of courses. Using the courses, it does a
-// backtracking search to find all the possible root section combinations. It then takes in this list of schedules
-// (which at this moment only contains root sections) and then performs another backtracking search to schedule
-// all the antirequisites, and then returns the list of schedules
-
-// The backtracking search algorithm is the one we learned in CPSC 110, except it uses a loop (in the scheduleCourses()
-// method) to simulate the recursion. (I tried using recursion but because Java doesn't have tail recursion
-// optimization, the program kept crashing).
-
+// This scheduler works by first taking in an empty Schedule, which has a list of courses. Every course is expanded
+// into its bundles: a root section together with one section from each of its antirequisites, none of which conflict
+// with each other (see Bundle). Using the courses, it then does a backtracking search that chooses one bundle for
+// every course. Every search in this class runs on the same SearchEngine.
 
+// The backtracking search algorithm is the one we learned in CPSC 110, except it keeps its own stack instead of
+// recursing (see SearchEngine). The stack only ever holds one partial schedule per level of the search tree, so it
+// stays small no matter how many schedules are searched. By default courses are decided in the order they were added,
+// but a search can be given another VariableOrdering, such as a MostConstrainedOrdering that always branches on the
+// course with the fewest bundles left.
 
 
 // Contains methods for course scheduling.
@@ -31,137 +35,157 @@ public class Scheduler {
 
     // REQUIRES: schedule is either empty (not yet finished nor given a score) or contains only root sections.
     // EFFECTS: makes a list of all possible schedules from a starting schedule, calculates their scores, and then
-    //          returns a list of schedules sorted byt their score from high to low
+    //          returns a list of schedules sorted byt their score from high to low (see ScheduleCollector). A
+    //          finished schedule is a schedule that has one root section ID in its sectionIDs field corresponding to
+    //          each courseID, as well as one sectionID from every corresponding antirequisite. If the resulting list
+    //          is empty, it means that it was not possible to schedule the given courses
     public static List<Schedule> scheduleAndCalculateScore(Schedule schedule) {
-        List<Schedule> result = scheduleCourses(schedule);
-        for (Schedule s: result) {
-            s.calculateScore();
+        SearchEngine engine = new SearchEngine(schedule);
+        ScheduleCollector collector = new ScheduleCollector();
+        for (Schedule next = engine.next(); next != null; next = engine.next()) {
+            collector.add(next);
         }
+        return collector.getSchedules();
+    }
 
-        Collections.sort(result, new Comparator<Schedule>() {
+    // REQUIRES: schedule is either empty (not yet finished nor given a score) or contains only root sections.
+    // EFFECTS: returns all possible schedules from a starting schedule grouped into classes of schedules that only
+    //          differ in sections held at the same times (see ScheduleClass), sorted by their score from high to low.
+    //          Only the first schedule of each class is made; the search is over classes of equivalent bundles, so it
+    //          is smaller than the one of scheduleAndCalculateScore(schedule) whenever a course has such bundles.
+    public static List<ScheduleClass> scheduleClassesAndCalculateScore(Schedule schedule) {
+        SearchEngine engine = new SearchEngine(schedule, true);
+        List<ScheduleClass> result = new ArrayList<>();
+        for (ScheduleClass next = engine.nextClass(); next != null; next = engine.nextClass()) {
+            result.add(next);
+        }
+        Collections.sort(result, new Comparator<ScheduleClass>() {
             @Override
-            public int compare(Schedule o1, Schedule o2) {
+            public int compare(ScheduleClass o1, ScheduleClass o2) {
                 return Float.compare(o2.getScore(), o1.getScore());
             }
         });
         return result;
     }
 
-    // EFFECTS: Given an empty schedule, returns a list of all possible finished schedules. A finished schedule is a
-    //          schedule that has one root section ID in its sectionIDs field corresponding to each courseID, as well
-    //          as one sectionID from every corresponding antirequisite. If the resulting list is empty, it means that
-    //          it was not possible to schedule the given courses
-    private static List<Schedule> scheduleCourses(Schedule schedule0) {
-        List<Schedule> result0 = new ArrayList<>();
-        scheduleRootSections(schedule0, new LinkedList<>(), schedule0.getCourseIDs(), new LinkedList<>(), result0);
-
-        List<Schedule> result = new ArrayList<>();
-        for (Schedule schedule : result0) {
-            List<Schedule> tempResult = new ArrayList<>();
-            List<List<String>> sectionIDsSet = schedule.getAllAntirequisits();
-            LinkedList<Schedule> scheduleWorkList = new LinkedList<>();
-            LinkedList<List<List<String>>> sectionIDsWorkList = new LinkedList<>();
-            int sectionIdsSize = sectionIDsSet.size();
-            scheduleSecondSections(schedule, scheduleWorkList,
-                    sectionIDsSet, sectionIDsWorkList, sectionIdsSize, tempResult);
-            while (!scheduleWorkList.isEmpty()) {
-                scheduleSecondSections(
-                        scheduleWorkList.pollFirst(),
-                        scheduleWorkList,
-                        sectionIDsWorkList.pollFirst(),
-                        sectionIDsWorkList,
-                        sectionIdsSize,
-                        tempResult);
-            }
-            result.addAll(tempResult);
-        }
-        return result;
+    // REQUIRES: schedule has no sections yet
+    // EFFECTS: returns an iterator that makes the finished schedules from a starting schedule one at a time, in the
+    //          order the search finds them, with their scores calculated (see ScheduleIterator)
+    public static Iterator<Schedule> iterator(Schedule schedule) {
+        return new ScheduleIterator(schedule);
     }
 
-    // REQUIRES: scheduleWorkList is empty, courseIDs is a copy of schedule.getCourseIDs(), courseIDsWorkList is empty,
-    //           resultSoFar is empty.
-    // MODIFIES: resultSoFar
-    // EFFECTS: Schedules root sections, puts a list of schedules where the root sections of the course IDs
-    //          for each schedule has been scheduled into resultSoFar
-    private static void scheduleRootSections(
-            Schedule schedule,
-            LinkedList<Schedule> scheduleWorkList,
-            List<String> courseIDs, // get course IDs from schedule.
-            LinkedList<List<String>> courseIDsWorkList, // tandem worklist for courseIDs
-            List<Schedule> resultSoFar) {
-
-        if (schedule.getSectionIDs().size() == schedule.getCourseIDs().size()) {
-            resultSoFar.add(schedule);
-        } else {
-            List<Schedule> nextSchedules = Scheduler.makeNextSchedules(schedule, courseIDs.get(0));
-            scheduleWorkList.addAll(nextSchedules);
-            courseIDsWorkList.addAll(Collections.nCopies(nextSchedules.size(), courseIDs.subList(1, courseIDs.size())));
-        }
-        if (!scheduleWorkList.isEmpty()) {
-            scheduleRootSections(
-                    scheduleWorkList.pollFirst(),
-                    scheduleWorkList,
-                    courseIDsWorkList.pollFirst(),
-                    courseIDsWorkList,
-                    resultSoFar);
-        }
+    // REQUIRES: schedule has no sections yet
+    // EFFECTS: returns an iterator that makes the finished schedules from a starting schedule one at a time, deciding
+    //          the courses in the given order, with their scores calculated
+    public static Iterator<Schedule> iterator(Schedule schedule, VariableOrdering ordering) {
+        return new ScheduleIterator(schedule, ordering);
     }
 
-    // REQUIRES: scheduleWorkList is empty, sectionIDs is a list of list of section IDs for the antirequisites of each
-    //           root section already in the schedule, sectionIDsWorkList is empty, sectionIDsSize is the size of
-    //           sectionIDsSet, resultSoFar is empty.
-    // MODIFIES: resultSoFar
-    // EFFECTS: Schedules antirequisite sections, puts a list of completed schedules into resultSoFar
-    private static void scheduleSecondSections(
-            Schedule schedule,
-            LinkedList<Schedule> scheduleWorkList,
-            List<List<String>> sectionIDsSet, // list of list of section IDs. ex. List(allLabs1, allLabs2)
-            LinkedList<List<List<String>>> sectionIDsWorkList,// tandem worklist for sectionIDsSet
-            int sectionIDsSize,
-            List<Schedule> resultSoFar) {
-
-        if (schedule.getSectionIDs().size() == schedule.getCourseIDs().size() + sectionIDsSize) {
-            resultSoFar.add(schedule);
-        } else {
-            List<Schedule> nextSchedules = Scheduler.makeNextSchedulesWithAntirequsite(schedule, sectionIDsSet.get(0));
-            scheduleWorkList.addAll(nextSchedules);
-            sectionIDsWorkList.addAll(Collections.nCopies(nextSchedules.size(),
-                    sectionIDsSet.subList(1, sectionIDsSet.size())));
-        }
+    // REQUIRES: schedule has no sections yet
+    // EFFECTS: returns a sequential stream of the finished schedules from a starting schedule. The schedules are only
+    //          made as the stream is consumed, so a short-circuiting operation such as limit or findFirst stops the
+    //          search early.
+    public static Stream<Schedule> stream(Schedule schedule) {
+        Spliterator<Schedule> spliterator = Spliterators.spliteratorUnknownSize(iterator(schedule),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
 
+    // EFFECTS: starts a run of the request on a new daemon thread, and returns its handle (see SchedulingHandle)
+    public static SchedulingHandle start(SchedulingRequest request) {
+        return start(request, command -> {
+            Thread thread = new Thread(command, "scheduler");
+            thread.setDaemon(true);
+            thread.start();
+        });
     }
 
+    // EFFECTS: starts a run of the request on the given executor, and returns its handle (see SchedulingHandle)
+    public static SchedulingHandle start(SchedulingRequest request, Executor executor) {
+        SchedulingHandle handle = new SchedulingHandle(request);
+        executor.execute(handle::run);
+        return handle;
+    }
 
-    // EFFECTS: makes the next schedules (next layer of search tree) by using each section from the section
-    // ids and making one copy of the new schedule for every section.
-    private static List<Schedule> makeNextSchedules(Schedule schedule0, String courseID) {
-        List<Schedule> result = new ArrayList<>();
-        List<Section> sections = schedule0.getCourseData().getRootSections(courseID, schedule0.getTerm()); // contains
-        // no sections when BIOL 111 term 2 is used
-        for (Section section : sections) {
-            Schedule clonedSchedule = schedule0.makeCopy();
-            if (clonedSchedule.tryAddSection(section)) {
-                result.add(clonedSchedule);
+    // REQUIRES: threads > 0, timeLimit >= 0, schedule is either empty (not yet finished nor given a score) or contains
+    //           only root sections.
+    // EFFECTS: improves a schedule made from a starting schedule with a local search (see LocalSearch) on the given
+    //          number of threads for the given number of milliseconds, each search with its own seed starting from
+    //          the given one. Returns the best schedule of every search, without duplicates, sorted by their score
+    //          from high to low (see ScheduleCollector), or an empty list if no schedule can be made.
+    public static List<Schedule> optimize(Schedule schedule, long timeLimit, int threads, long seed) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<Bundle[]>> searches = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long searchSeed = seed + i;
+                searches.add(pool.submit(ForkJoinTask.adapt(
+                        () -> new LocalSearch(schedule, searchSeed).run(timeLimit))));
+            }
+            ScheduleCollector collector = new ScheduleCollector();
+            Set<List<String>> found = new HashSet<>();
+            for (ForkJoinTask<Bundle[]> search : searches) {
+                Bundle[] best = search.join();
+                Schedule next = best == null ? null : SearchEngine.finish(schedule, best);
+                if (next != null && found.add(next.getSectionIDs())) {
+                    collector.add(next);
+                }
             }
+            return collector.getSchedules();
+        } finally {
+            pool.shutdown();
         }
-        return result;
     }
 
-
-    // EFFECTS: makes the next schedules (next layer of search tree) by using each section from the section
-    // ids and making one copy of the new schedule for every section. This method has the same functionality as the
-    // method above, but accepts different parameters.
-    private static List<Schedule> makeNextSchedulesWithAntirequsite(Schedule schedule, List<String> sectionIDs) {
-        List<Schedule> result = new ArrayList<>();
-        for (String sectionID : sectionIDs) {
-            Schedule clonedSchedule = schedule.makeCopy();
-            Section section = schedule.getCourseData().getSection(sectionID);
-            if (clonedSchedule.tryAddSection(section)) {
-                result.add(clonedSchedule);
+    // REQUIRES: parallelism > 0, schedule is either empty (not yet finished nor given a score) or contains only root
+    //           sections.
+    // EFFECTS: returns the same list as scheduleAndCalculateScore(schedule), but the search is split up into tasks that
+    //          run on a new ForkJoinPool with the given number of threads (see ParallelScheduleTask)
+    public static List<Schedule> scheduleAndCalculateScoreInParallel(Schedule schedule, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ScheduleCollector collector = new ScheduleCollector();
+            for (Schedule next : pool.invoke(new ParallelScheduleTask(schedule))) {
+                collector.add(next);
             }
+            return collector.getSchedules();
+        } finally {
+            pool.shutdown();
         }
-        return result;
     }
 
+    // REQUIRES: k > 0, schedule is either empty (not yet finished nor given a score) or contains only root sections.
+    // EFFECTS: returns the k best schedules that can be made from a starting schedule, sorted by their score from high
+    //          to low. The result is the same as the first k schedules of scheduleAndCalculateScore(schedule), but
+    //          instead of making every possible schedule this does a branch and bound search: a partial schedule is
+    //          dropped as soon as its upper bound (see ScoreBound) cannot beat the k-th best schedule found so far. If
+    //          the courses split into independent components (see CourseComponents), every component is searched on
+    //          its own and the best combinations of their solutions are merged instead, unless they make more than
+    //          ComponentMerge.MAX_COMBINATIONS combinations (see ComponentMerge).
+    public static List<Schedule> scheduleAndCalculateScore(Schedule schedule, int k) {
+        List<List<Integer>> components = CourseComponents.split(schedule);
+        if (components.size() > 1) {
+            return new ComponentMerge(schedule, components).topSchedules(k);
+        }
+        return scheduleAndCalculateScore(schedule, k, new InputOrdering());
+    }
 
+    // REQUIRES: k > 0, schedule is either empty (not yet finished nor given a score) or contains only root sections.
+    // EFFECTS: returns the k best schedules that can be made from a starting schedule, sorted by their score from high
+    //          to low, with a branch and bound search that decides the courses in the given order (see
+    //          VariableOrdering). The search streams its schedules into a bounded ScheduleCollector, so the result
+    //          is the same for every ordering. Once k schedules are kept, a branch is only searched if its upper bound
+    //          is at least the lowest of their scores, since a schedule with the same score may still rank before it.
+    public static List<Schedule> scheduleAndCalculateScore(Schedule schedule, int k, VariableOrdering ordering) {
+        SearchEngine engine = new SearchEngine(schedule, new ScoreBound(schedule.getWeight()), ordering);
+        ScheduleCollector collector = new ScheduleCollector(k);
+        for (Schedule next = engine.next(); next != null; next = engine.next()) {
+            collector.add(next);
+            if (collector.isFull()) {
+                engine.setPruneScore(Math.nextDown(collector.getLowestScore()));
+            }
+        }
+        return collector.getSchedules();
+    }
 }
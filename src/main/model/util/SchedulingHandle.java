@@ -0,0 +1,214 @@
+package model.util;
+
+import model.Schedule;
+import model.exceptions.SchedulingFailedException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+// A handle to a scheduling run started by Scheduler.start (see SchedulingRequest). The search checks in with its
+// handle every CHECKPOINT_NODES nodes: the handle then stops the search if it was cancelled, ran out of time or used
+// up its node budget, and tells the progress listener how the search is going at most every PROGRESS_INTERVAL
+// milliseconds. Since the limits are only checked at checkpoints, a search may try up to CHECKPOINT_NODES more nodes
+// than its budget. A stopped search still returns the best schedules it found so far. A search that throws is
+// FAILED instead: what it threw is kept, and getSchedules throws it again wrapped in a SchedulingFailedException.
+//
+// If the request asks for the best k schedules, the search is a branch and bound search that streams its schedules
+// into a bounded ScheduleCollector, like Scheduler.scheduleAndCalculateScore(schedule, k). If the request has a beam
+// width, the rounds of a BeamSearch stream their schedules into the collector instead, skipping the ones an earlier
+// round found, and the handle keeps the smallest gap any round proved. The search runs on one thread, and the handle
+// may be used from any other.
+public class SchedulingHandle {
+    public static final int CHECKPOINT_NODES = 1024;    // the number of nodes between two checkpoints
+    public static final long PROGRESS_INTERVAL = 100;   // the least time in milliseconds between progress reports
+
+    private SchedulingRequest request;                  // the request that is run
+    private ScheduleCollector collector;                // the best schedules found so far
+    private CountDownLatch done;                        // released once the run is over
+    private volatile SchedulingStatus status;           // the state of the run
+    private volatile boolean cancelled;                 // true if the run was asked to stop
+    private volatile long nodes;                        // the nodes tried as of the last checkpoint
+    private volatile int schedulesFound;                // the number of finished schedules found
+    private volatile float bestScore;                   // the best score found, negative infinity if none
+    private volatile float gap;                         // how much better the best score can be, infinity if unknown
+    private volatile long elapsedMillis;                // the time the run took once it is over
+    private volatile Throwable failure;                 // what the run threw if it failed, null if it did not
+    private long startTime;                             // the System.nanoTime the run started at
+    private long deadline;                              // the System.nanoTime the run stops at, if it has a limit
+    private long lastProgress;                          // the System.nanoTime of the last progress report
+
+    // EFFECTS: constructs a handle for a run of the request that has not started yet
+    SchedulingHandle(SchedulingRequest request) {
+        this.request = request;
+        int k = request.getNumOfSchedules();
+        this.collector = k > 0 ? new ScheduleCollector(k) : new ScheduleCollector();
+        this.done = new CountDownLatch(1);
+        this.status = SchedulingStatus.RUNNING;
+        this.bestScore = Float.NEGATIVE_INFINITY;
+        this.gap = Float.POSITIVE_INFINITY;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: asks the run to stop at its next checkpoint, keeping the schedules it found so far
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public SchedulingStatus getStatus() {
+        return status;
+    }
+
+    // EFFECTS: returns true if the run is over, whether it was complete or stopped early
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public int getSchedulesFound() {
+        return schedulesFound;
+    }
+
+    public float getBestScore() {
+        return bestScore;
+    }
+
+    // EFFECTS: returns the time the run took in milliseconds once it is over, from the time it started running
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    // EFFECTS: returns how much higher than the best score found the best score there is can be at most. It is 0 once
+    //          an exact search is complete, and positive infinity while it is not known.
+    public float getGap() {
+        return gap;
+    }
+
+    // EFFECTS: returns what the run threw if it failed, or null if it did not fail (yet)
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    // EFFECTS: waits until the run is over, then returns the best schedules it found, sorted by their score from high
+    //          to low. Throws InterruptedException if the waiting thread is interrupted, and SchedulingFailedException
+    //          if the run failed.
+    public List<Schedule> getSchedules() throws InterruptedException {
+        done.await();
+        if (failure != null) {
+            throw new SchedulingFailedException(failure);
+        }
+        return collector.getSchedules();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs the search on the calling thread until it is done, stopped, or throws. What it throws is kept
+    //          and the run is FAILED.
+    void run() {
+        startTime = System.nanoTime();
+        lastProgress = startTime;
+        deadline = startTime + request.getTimeLimit() * 1000000L;
+        try {
+            if (cancelled) {
+                status = SchedulingStatus.CANCELLED;
+            } else if (request.getBeamWidth() > 0) {
+                searchApproximately();
+            } else {
+                search();
+            }
+            if (status == SchedulingStatus.RUNNING) {
+                status = SchedulingStatus.COMPLETE;
+            }
+            report();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            status = SchedulingStatus.FAILED;
+        } finally {
+            elapsedMillis = (System.nanoTime() - startTime) / 1000000L;
+            done.countDown();
+        }
+    }
+
+    // REQUIRES: the run is not over
+    // MODIFIES: this
+    // EFFECTS: called by the search with the number of nodes it has tried. Returns false and sets the status if the
+    //          search must stop, and otherwise reports the progress if it is time to.
+    boolean checkpoint(long nodes) {
+        this.nodes = nodes;
+        long now = System.nanoTime();
+        if (cancelled) {
+            status = SchedulingStatus.CANCELLED;
+        } else if (request.getNodeBudget() > 0 && nodes >= request.getNodeBudget()) {
+            status = SchedulingStatus.OUT_OF_NODES;
+        } else if (request.getTimeLimit() > 0 && now - deadline >= 0) {
+            status = SchedulingStatus.TIMED_OUT;
+        } else {
+            if (now - lastProgress >= PROGRESS_INTERVAL * 1000000L) {
+                lastProgress = now;
+                report();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs the search, adding every finished schedule to the collector
+    private void search() {
+        Schedule schedule = request.getSchedule();
+        boolean bounded = request.getNumOfSchedules() > 0;
+        SearchEngine engine = new SearchEngine(schedule, bounded ? new ScoreBound(schedule.getWeight()) : null);
+        engine.setMonitor(this);
+        for (Schedule next = engine.next(); next != null; next = engine.next()) {
+            collector.add(next);
+            schedulesFound++;
+            bestScore = Math.max(bestScore, next.getScore());
+            if (collector.isFull()) {
+                engine.setPruneScore(Math.nextDown(collector.getLowestScore()));
+            }
+        }
+        nodes = engine.getNodes();
+        if (status == SchedulingStatus.RUNNING) {
+            gap = 0;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs rounds of a beam search with a doubling beam width until a round is exact or the run is stopped,
+    //          adding every finished schedule that was not found before to the collector
+    private void searchApproximately() {
+        BeamSearch beam = new BeamSearch(request.getSchedule());
+        beam.setMonitor(this);
+        Set<List<String>> found = new HashSet<>();
+        int width = request.getBeamWidth();
+        for (List<Schedule> round = beam.run(width); round != null; round = beam.run(width)) {
+            for (Schedule next : round) {
+                if (found.add(next.getSectionIDs())) {
+                    collector.add(next);
+                    schedulesFound++;
+                    bestScore = Math.max(bestScore, next.getScore());
+                }
+            }
+            boolean exact = beam.getDroppedBound() == Float.NEGATIVE_INFINITY;
+            gap = exact ? 0 : Math.min(gap, Math.max(0, beam.getDroppedBound() - bestScore));
+            if (request.getProgressListener() != null) {
+                request.getProgressListener().onRoundFinished(width, bestScore, gap);
+            }
+            if (exact) {
+                break;
+            }
+            width = width > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : width * 2;
+        }
+        nodes = beam.getNodes();
+    }
+
+    // EFFECTS: tells the progress listener of the request how the run is going, if it has one
+    private void report() {
+        if (request.getProgressListener() != null) {
+            request.getProgressListener().onProgress(nodes, schedulesFound, bestScore);
+        }
+    }
+}
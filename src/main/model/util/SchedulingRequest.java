@@ -0,0 +1,86 @@
+package model.util;
+
+import model.Schedule;
+
+// A request to search for the best schedules of a starting schedule with limits on the search: a time limit, a budget
+// of nodes (candidate bundles tried), and a listener that is told about its progress. A request is run by
+// Scheduler.start, which returns a SchedulingHandle that can cancel the run. When a run is stopped early its best
+// schedules so far are returned.
+//
+// A request with a beam width is approximate: it runs rounds of a BeamSearch, starting with the given width and
+// doubling it every round, until a round is exact or the run is stopped. Every round can only make the best schedules
+// better, so the run can be stopped at any time with a useful answer.
+public class SchedulingRequest {
+    private Schedule schedule;              // the starting schedule
+    private int numOfSchedules;             // the number of best schedules to return, 0 to return all of them
+    private long timeLimit;                 // the time the search may run for in milliseconds, 0 if no limit
+    private long nodeBudget;                // the number of nodes the search may try, 0 if no limit
+    private ProgressListener listener;      // told about the progress of the search, null if none
+    private int beamWidth;                  // the beam width of the first round, 0 for an exact search
+
+    // REQUIRES: numOfSchedules >= 0, schedule is either empty (not yet finished nor given a score) or contains only
+    //           root sections.
+    // EFFECTS: constructs a request for the given number of best schedules of schedule (all of them if 0), without
+    //          any limits
+    public SchedulingRequest(Schedule schedule, int numOfSchedules) {
+        this.schedule = schedule;
+        this.numOfSchedules = numOfSchedules;
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
+    public int getNumOfSchedules() {
+        return numOfSchedules;
+    }
+
+    public long getTimeLimit() {
+        return timeLimit;
+    }
+
+    // REQUIRES: timeLimit >= 0
+    // MODIFIES: this
+    // EFFECTS: sets the time limit in milliseconds from the start of the run, 0 for no limit
+    public void setTimeLimit(long timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public long getNodeBudget() {
+        return nodeBudget;
+    }
+
+    // REQUIRES: nodeBudget >= 0
+    // MODIFIES: this
+    // EFFECTS: sets the number of candidate bundles the search may try, 0 for no limit
+    public void setNodeBudget(long nodeBudget) {
+        this.nodeBudget = nodeBudget;
+    }
+
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    // REQUIRES: beamWidth >= 0
+    // MODIFIES: this
+    // EFFECTS: sets the beam width of the first round of an approximate search, 0 for an exact search
+    public void setBeamWidth(int beamWidth) {
+        this.beamWidth = beamWidth;
+    }
+
+    // EFFECTS: returns a key that is the same for two requests exactly when they ask for the same search: the same
+    //          term, courses, starting sections, weight, number of schedules, limits and beam width
+    public String getKey() {
+        return schedule.getTerm() + "|" + schedule.getCourseIDs() + "|" + schedule.getSectionIDs() + "|"
+                + schedule.getWeight().getFingerprint() + "|" + numOfSchedules + "|" + timeLimit + "|" + nodeBudget
+                + "|" + beamWidth;
+    }
+
+    public ProgressListener getProgressListener() {
+        return listener;
+    }
+
+    public void setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+}
@@ -0,0 +1,76 @@
+package model.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs scheduling requests for a server on a bounded pool of threads, so that the number of searches using the CPU
+// at once stays at the size of the pool no matter how many clients are waiting for one. Identical requests (see
+// SchedulingRequest.getKey) that arrive while one of them is still running are coalesced: they all get the handle of
+// the run in flight instead of starting a search of their own. A run leaves the service as soon as it is done, so a
+// request that arrives after that starts a new run.
+//
+// Since coalesced requests share a handle, cancelling it cancels the run for all of them. Requests with a progress
+// listener are never coalesced, since only one listener can be told about the progress of a run.
+public class SchedulingService {
+    private ExecutorService pool;                     // runs the searches
+    private Map<String, SchedulingHandle> inFlight;   // the run of every request that is not done yet, by its key
+    private AtomicLong coalesced;                     // the number of requests that were given a run in flight
+
+    // REQUIRES: threads > 0
+    // EFFECTS: constructs a service that runs at most the given number of searches at once
+    public SchedulingService(int threads) {
+        this.pool = Executors.newFixedThreadPool(threads);
+        this.inFlight = new ConcurrentHashMap<>();
+        this.coalesced = new AtomicLong();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the handle of the run in flight of an identical request if there is one, or else starts a run
+    //          of the request on the pool and returns its handle
+    public SchedulingHandle submit(SchedulingRequest request) {
+        if (request.getProgressListener() != null) {
+            return Scheduler.start(request, pool);
+        }
+        String key = request.getKey();
+        SchedulingHandle[] started = new SchedulingHandle[1];
+        SchedulingHandle handle = inFlight.computeIfAbsent(key, k -> started[0] = start(k, request));
+        if (handle != started[0]) {
+            coalesced.incrementAndGet();
+        }
+        return handle;
+    }
+
+    // EFFECTS: starts a run of the request on the pool that removes itself from the runs in flight once it is done,
+    //          and returns its handle
+    private SchedulingHandle start(String key, SchedulingRequest request) {
+        return Scheduler.start(request, command -> pool.execute(() -> {
+            try {
+                command.run();
+            } finally {
+                inFlight.remove(key);
+            }
+        }));
+    }
+
+    // EFFECTS: returns the number of runs that are not done yet
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    // EFFECTS: returns the number of requests that were given the run of an identical request in flight
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: cancels every run in flight and stops the pool; no more requests can be submitted
+    public void shutdown() {
+        for (SchedulingHandle handle : inFlight.values()) {
+            handle.cancel();
+        }
+        pool.shutdown();
+    }
+}
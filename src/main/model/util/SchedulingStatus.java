@@ -0,0 +1,11 @@
+package model.util;
+
+// The state of a scheduling run (see SchedulingHandle)
+public enum SchedulingStatus {
+    RUNNING,
+    COMPLETE,
+    TIMED_OUT,
+    OUT_OF_NODES,
+    CANCELLED,
+    FAILED,
+}
@@ -0,0 +1,50 @@
+package model.util;
+
+import model.Section;
+import model.Weight;
+
+// An optimistic estimate of the best score that a partial schedule can still reach once it is finished. It is built
+// from the components of a Weight and follows the same steps as Schedule.calculateScore:
+//     - the compact score and the balance score of a schedule without conflicts are both at most 100
+//     - the overtime score can only get lower when more sections are added to a schedule
+// This means that a finished schedule can never score more than
+//     (100 * compactWeight + 100 * balanceWeight) / (1 + overtime penalty of the partial schedule)
+// If one of the weights is negative the compact or balance scores can push the score up without a limit, so no bound
+// is given.
+public class ScoreBound {
+    private static final float MAX_COMPONENT_SCORE = 100;
+    private static final int OVERTIME_STEP = 30; // minutes of overtime that cost one penalty point
+
+    private Weight weight;
+
+    // EFFECTS: constructs a ScoreBound for schedules that are scored with the given weight
+    public ScoreBound(Weight weight) {
+        this.weight = weight;
+    }
+
+    // EFFECTS: returns the overtime penalty that the given section adds to a schedule. It is the same amount that
+    //          Schedule.calculateScore adds for the section, once for every weekday the section is held on.
+    public int overtimePenalty(Section section) {
+        int penalty = 0;
+        if (section.getStartTimeInMinutes() < weight.getPreferredStartTime()) {
+            penalty += (weight.getPreferredStartTime() - section.getStartTimeInMinutes()) / OVERTIME_STEP;
+        }
+        if (section.getEndTimeInMinutes() > weight.getPreferredEndTime()) {
+            penalty += (section.getEndTimeInMinutes() - weight.getPreferredEndTime()) / OVERTIME_STEP;
+        }
+        return penalty * section.getWeekDays().size();
+    }
+
+    // REQUIRES: overtimePenalty >= 0
+    // EFFECTS: returns the highest score that any finished schedule can have if its sections so far add up to the
+    //          given overtime penalty. Returns Float.POSITIVE_INFINITY if there is no bound.
+    public float upperBound(int overtimePenalty) {
+        if (weight.getCompactWeight() < 0 || weight.getBalanceWeight() < 0) {
+            return Float.POSITIVE_INFINITY;
+        }
+        float compactScore = MAX_COMPONENT_SCORE * weight.getCompactWeight();
+        float balanceScore = MAX_COMPONENT_SCORE * weight.getBalanceWeight();
+        float overtimeScore = 1 / (float) (1 + overtimePenalty);
+        return (compactScore + balanceScore) * overtimeScore;
+    }
+}
@@ -0,0 +1,480 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// The depth first backtracking search that every search in Scheduler runs on. A search has one variable for every
+// course of the schedule, and deciding a course means choosing one of its bundles (see Bundle): a root section
+// together with one section from each of its antirequisites. The bundles of a course are expanded once by the course
+// data, so the search never tries a lab or tutorial that conflicts with its own lecture. The VariableOrdering of the
+// search chooses which course is decided next. The level of a partial schedule is the number of courses decided in it.
+//
+// The search never recurses. It keeps a stack of arrays indexed by level, holding the partial schedule at that level,
+// the course decided at that level, and how many of its candidate bundles have been tried. The arrays are sized to the
+// number of courses, so the memory used by a search only grows with the depth of the search tree and not with the
+// number of partial schedules that are waiting to be searched.
+//
+// Partial schedules are PartialSchedules that share their bundles with their parent, and the domains of each level
+// are reused from one branch to the next, so trying a bundle allocates almost nothing. A full Schedule is
+// only made from the template schedule once a partial schedule is finished. Its sections are always in input order
+// (the root sections of the courses in the order they were added, and then the antirequisites of each root section),
+// whatever order the courses were decided in.
+//
+// The search does forward checking. Every level also keeps the domain of each course that is still left to decide:
+// its bundles that do not conflict with the partial schedule. When a bundle is added, the domains of the next level
+// are the domains of this level without the bundles that conflict with the new one, and if any domain ends up empty
+// the branch is dropped right away instead of many levels later. Domains keep the order of the bundles, so the
+// schedules are always found in the same order for the same VariableOrdering.
+//
+// If a search is given a ScoreBound, it keeps track of the overtime penalty of each partial schedule and skips every
+// branch whose upper bound is not above the prune score.
+//
+// A search can be given a SchedulingHandle to check in with every SchedulingHandle.CHECKPOINT_NODES nodes, where a
+// node is one candidate bundle tried. If the handle says to stop, the search drops its stack and finds nothing more.
+//
+// A search can also be done by class: then every course only has one bundle for each class of its equivalent bundles
+// (see Bundle.classes), and each finished schedule stands for a whole ScheduleClass of schedules with the same score.
+// Courses whose root section is fixed by the template keep all their bundles, since the equivalents of a bundle may
+// have other root sections.
+class SearchEngine {
+    private Schedule template;                // the starting schedule that finished schedules are made from
+    private List<String> courseIDs;           // the courses that are being scheduled
+    private ScoreBound bound;                 // used to prune branches, null if nothing is pruned
+    private VariableOrdering ordering;        // chooses the course that is decided at each level
+    private float pruneScore;                 // branches whose upper bound is not above this score are pruned
+    private int startLevel;                   // the level of the starting schedule
+    private int top;                          // the level of the top of the stack, startLevel - 1 if empty
+    private PartialSchedule[] scheduleStack;  // the partial schedule at each level
+    private int[] variableStack;              // tandem stack of the course that is decided at each level
+    private int[] indexStack;                 // tandem stack of how many candidates for the next level were tried
+    private int[] penaltyStack;               // tandem stack of the overtime penalty of each partial schedule
+    private long[] startOccupied;             // the time slots occupied by the starting schedule
+    private int startUnmasked;                // how many bundles of the starting schedule have no time mask
+    private Bundle[][][] domainStack;         // tandem stack of the domain of every course
+    private int[][] domainSizeStack;          // tandem stack of the number of bundles in each of those domains
+    private Bundle[] chosen;                  // the bundle chosen for each decided course
+    private boolean[] decided;                // true for each course that is decided on the stack or at the start
+    private int[] degrees;                    // how many other courses each course shares time with
+    private boolean startFinished;            // true if the starting schedule is finished and not returned yet
+    private boolean byClass;                  // true if each bundle stands for its class of equivalent bundles
+    private SchedulingHandle monitor;         // checked in with at every checkpoint, null if none
+    private long nodes;                       // the number of candidate bundles tried
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order (it may be empty)
+    // EFFECTS: constructs a search for all the finished schedules that can be made from template
+    SearchEngine(Schedule template) {
+        this(template, new PartialSchedule(), null);
+    }
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order (it may be empty)
+    // EFFECTS: constructs a search for all the finished schedules that can be made from template, which is done by
+    //          class if byClass is true
+    SearchEngine(Schedule template, boolean byClass) {
+        this(template, new PartialSchedule(), null, new InputOrdering(), byClass);
+    }
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order (it may be empty)
+    // EFFECTS: constructs a search for the finished schedules that can be made from template. If bound is not null,
+    //          branches that cannot score above the prune score are skipped.
+    SearchEngine(Schedule template, ScoreBound bound) {
+        this(template, new PartialSchedule(), bound);
+    }
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order (it may be empty)
+    // EFFECTS: constructs a search for the finished schedules that can be made from template, which decides the
+    //          courses in the given order. If bound is not null, branches that cannot score above the prune score are
+    //          skipped.
+    SearchEngine(Schedule template, ScoreBound bound, VariableOrdering ordering) {
+        this(template, new PartialSchedule(), bound, ordering);
+    }
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order, and the bundles of start
+    //           were chosen by nextBundles for the first courses of template, in order
+    // EFFECTS: constructs a search for the finished schedules that can be made from start. If bound is not null,
+    //          branches that cannot score above the prune score are skipped.
+    SearchEngine(Schedule template, PartialSchedule start, ScoreBound bound) {
+        this(template, start, bound, new InputOrdering());
+    }
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order, and the bundles of start
+    //           were chosen by nextBundles for the first courses of template, in order
+    // EFFECTS: constructs a search for the finished schedules that can be made from start, which decides the courses
+    //          in the given order. If bound is not null, branches that cannot score above the prune score are skipped.
+    SearchEngine(Schedule template, PartialSchedule start, ScoreBound bound, VariableOrdering ordering) {
+        this(template, start, bound, ordering, false);
+    }
+
+    // REQUIRES: the sections of template are root sections of its first courses, in order, and the bundles of start
+    //           were chosen by nextBundles for the first courses of template, in order
+    // EFFECTS: constructs a search for the finished schedules that can be made from start, which decides the courses
+    //          in the given order and is done by class if byClass is true. If bound is not null, branches that cannot
+    //          score above the prune score are skipped.
+    private SearchEngine(Schedule template, PartialSchedule start, ScoreBound bound, VariableOrdering ordering,
+                         boolean byClass) {
+        this.template = template;
+        this.byClass = byClass;
+        this.courseIDs = template.getCourseIDs();
+        this.bound = bound;
+        this.ordering = ordering;
+        this.pruneScore = Float.NEGATIVE_INFINITY;
+        this.startLevel = start.getLevel();
+        this.top = startLevel - 1;
+        allocate(courseIDs.size() + 1);
+        initStart(start);
+        if (initDomains(start, startLevel)) {
+            this.startFinished = pushOrFinish(start, startLevel, startPenalty(start));
+        }
+    }
+
+    // REQUIRES: the bundles of schedule were chosen by nextBundles for the first courses of template, in order
+    // EFFECTS: returns the bundles of the next course of template that can be added to the given partial schedule, or
+    //          null if the schedule is finished
+    static List<Bundle> nextBundles(Schedule template, PartialSchedule schedule) {
+        int course = schedule.getLevel();
+        if (course == template.getCourseIDs().size()) {
+            return null;
+        }
+        List<Bundle> result = new ArrayList<>();
+        for (Bundle bundle : template.getCourseData().getBundles(template.getCourseIDs().get(course),
+                template.getTerm())) {
+            if (matchesTemplate(template, course, bundle) && !schedule.hasConflictWith(bundle)) {
+                result.add(bundle);
+            }
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: branches whose upper bound is not above score are skipped from now on. Has no effect if the search was
+    //          not given a ScoreBound.
+    void setPruneScore(float score) {
+        this.pruneScore = score;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: the search checks in with the given handle at every checkpoint from now on, and stops if it says so
+    void setMonitor(SchedulingHandle monitor) {
+        this.monitor = monitor;
+    }
+
+    long getNodes() {
+        return nodes;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: continues the search and returns the next finished schedule, with its score calculated. Returns null
+    //          if there are no more finished schedules.
+    Schedule next() {
+        return advance() ? finish(template, chosen) : null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: continues the search and returns the bundle of every course of the next finished schedule, in input
+    //          order, without making the schedule. Returns null if there are no more finished schedules.
+    Bundle[] nextSolution() {
+        return advance() ? Arrays.copyOf(chosen, courseIDs.size()) : null;
+    }
+
+    // REQUIRES: chosen has the bundle of every course of template, in input order
+    // EFFECTS: returns a copy of the template with the sections of the chosen bundles added in input order (the root
+    //          sections that are not in template yet, and then the antirequisites of each root section), with its
+    //          score calculated
+    static Schedule finish(Schedule template, Bundle[] chosen) {
+        Schedule result = template.makeCopy();
+        int numOfCourses = template.getCourseIDs().size();
+        for (int course = template.getSectionIDs().size(); course < numOfCourses; course++) {
+            addSections(result, chosen[course], 0, 1);
+        }
+        for (int course = 0; course < numOfCourses; course++) {
+            addSections(result, chosen[course], 1, chosen[course].getSections().size());
+        }
+        result.calculateScore();
+        return result;
+    }
+
+    // MODIFIES: schedule
+    // EFFECTS: adds the sections of the bundle from position from up to but not including position to, by their
+    //          handles if the bundle has them, and else by their section IDs
+    static void addSections(Schedule schedule, Bundle bundle, int from, int to) {
+        int[] handles = bundle.getHandles();
+        for (int position = from; position < to; position++) {
+            if (handles != null) {
+                schedule.addSection(handles[position]);
+            } else {
+                schedule.addSectionID(bundle.getSections().get(position).getSectionID());
+            }
+        }
+    }
+
+    // REQUIRES: the search is done by class
+    // MODIFIES: this
+    // EFFECTS: continues the search and returns the class of the next finished schedule, with the score of its
+    //          schedules calculated. Returns null if there are no more finished schedules.
+    ScheduleClass nextClass() {
+        return advance() ? new ScheduleClass(template, Arrays.copyOf(chosen, courseIDs.size())) : null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: continues the search until the next finished schedule, and returns true if one was found. The bundles
+    //          of the finished schedule are then in chosen. If the monitor says to stop, the stack is dropped and
+    //          false is returned.
+    private boolean advance() {
+        if (startFinished) {
+            startFinished = false;
+            return true;
+        }
+        while (top >= startLevel) {
+            if (indexStack[top] == domainSizeStack[top][variableStack[top]]) {
+                decided[variableStack[top]] = false;
+                scheduleStack[top] = null;
+                top--;
+            } else if (isStopped()) {
+                top = startLevel - 1;
+            } else if (tryNextBundle()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: checks in with the monitor if the next node is at a checkpoint, and returns true if it says to stop
+    private boolean isStopped() {
+        return monitor != null && nodes % SchedulingHandle.CHECKPOINT_NODES == 0 && !monitor.checkpoint(nodes);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a list of all the remaining finished schedules
+    List<Schedule> toList() {
+        List<Schedule> result = new ArrayList<>();
+        for (Schedule schedule = next(); schedule != null; schedule = next()) {
+            result.add(schedule);
+        }
+        return result;
+    }
+
+    // REQUIRES: the top of the stack has a candidate left to try
+    // MODIFIES: this
+    // EFFECTS: tries the next candidate on top of the stack. If its branch is not pruned and no domain of the next
+    //          level ends up empty, the new partial schedule is pushed unless it is finished. Returns true if it is
+    //          finished.
+    private boolean tryNextBundle() {
+        Bundle bundle = domainStack[top][variableStack[top]][indexStack[top]++];
+        nodes++;
+        int penalty = 0;
+        if (bound != null) {
+            penalty = penaltyStack[top] + overtimePenalty(bundle);
+            if (bound.upperBound(penalty) <= pruneScore) {
+                return false;
+            }
+        }
+        chosen[variableStack[top]] = bundle;
+        PartialSchedule schedule = scheduleStack[top].add(bundle);
+        if (!narrowDomains(top + 1, bundle)) {
+            return false;
+        }
+        return pushOrFinish(schedule, top + 1, penalty);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the domains of the given level to the domains of the level below without the bundles that
+    //          conflict with the given one. Returns false if any domain is empty.
+    private boolean narrowDomains(int level, Bundle bundle) {
+        for (int variable = 0; variable < courseIDs.size(); variable++) {
+            if (decided[variable]) {
+                continue;
+            }
+            Bundle[] source = domainStack[level - 1][variable];
+            int sourceSize = domainSizeStack[level - 1][variable];
+            Bundle[] target = domainBuffer(level, variable, sourceSize);
+            int size = 0;
+            for (int i = 0; i < sourceSize; i++) {
+                if (!source[i].hasConflictWith(bundle)) {
+                    target[size++] = source[i];
+                }
+            }
+            domainSizeStack[level][variable] = size;
+            if (size == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // REQUIRES: schedule is the starting schedule at the given level, and its occupied time slots are set
+    // MODIFIES: this
+    // EFFECTS: sets the domains of the given level from the course data, keeping only the bundles that match the
+    //          template and do not conflict with schedule, and sets the degrees of the courses. Returns false if any
+    //          domain is empty.
+    private boolean initDomains(PartialSchedule schedule, int level) {
+        for (int variable = 0; variable < courseIDs.size(); variable++) {
+            if (decided[variable]) {
+                continue;
+            }
+            List<Bundle> bundles = candidates(variable);
+            Bundle[] target = domainBuffer(level, variable, bundles.size());
+            int size = 0;
+            for (Bundle bundle : bundles) {
+                if (matchesTemplate(template, variable, bundle) && !hasConflictWithStart(schedule, bundle)) {
+                    target[size++] = bundle;
+                }
+            }
+            domainSizeStack[level][variable] = size;
+            if (size == 0) {
+                return false;
+            }
+        }
+        setDegrees(level);
+        return true;
+    }
+
+    // EFFECTS: returns the bundles the given course is decided from: one for every class of its equivalent bundles if
+    //          the search is done by class and template has no root section for the course, or else all of them
+    private List<Bundle> candidates(int variable) {
+        List<Bundle> bundles = template.getCourseData().getBundles(courseIDs.get(variable), template.getTerm());
+        if (byClass && variable >= template.getSectionIDs().size()) {
+            return Bundle.classes(bundles);
+        }
+        return bundles;
+    }
+
+    // REQUIRES: the domains of level are set
+    // MODIFIES: this
+    // EFFECTS: sets the degree of each course that is not decided to the number of other such courses with a bundle
+    //          that shares any time with one of its bundles. Bundles without a time mask are counted as sharing time
+    //          with everything.
+    private void setDegrees(int level) {
+        long[][] unions = new long[courseIDs.size()][];
+        for (int variable = 0; variable < courseIDs.size(); variable++) {
+            if (!decided[variable]) {
+                unions[variable] = domainUnion(level, variable);
+            }
+        }
+        for (int variable = 0; variable < courseIDs.size(); variable++) {
+            degrees[variable] = 0;
+            for (int other = 0; unions[variable] != null && other < courseIDs.size(); other++) {
+                if (other != variable && unions[other] != null && sharesTime(unions[variable], unions[other])) {
+                    degrees[variable]++;
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns all the time slots occupied by a bundle in the domain of the course at the given level, or an
+    //          empty array if any of those bundles has no time mask
+    private long[] domainUnion(int level, int variable) {
+        long[] union = TimeMask.empty();
+        for (int i = 0; i < domainSizeStack[level][variable]; i++) {
+            long[] occupancy = domainStack[level][variable][i].getOccupancy();
+            if (occupancy == null) {
+                return new long[0];
+            }
+            TimeMask.addTo(union, occupancy);
+        }
+        return union;
+    }
+
+    // EFFECTS: returns true if two unions of time slots share any time, where an empty array shares time with all
+    private static boolean sharesTime(long[] union, long[] other) {
+        return union.length == 0 || other.length == 0 || TimeMask.intersects(union, other);
+    }
+
+    // REQUIRES: schedule is the starting schedule
+    // EFFECTS: returns true if the bundle has a time conflict with the starting schedule. Below the starting level,
+    //          the domains are narrowed by the bundle added instead, so no level but this one needs its time slots.
+    private boolean hasConflictWithStart(PartialSchedule schedule, Bundle bundle) {
+        if (bundle.getOccupancy() != null && startUnmasked == 0) {
+            return TimeMask.intersects(startOccupied, bundle.getOccupancy());
+        }
+        return schedule.hasConflictWith(bundle);
+    }
+
+    // EFFECTS: returns true if the bundle of the given course starts with the root section that template has for the
+    //          course, or if template has no root section for it
+    private static boolean matchesTemplate(Schedule template, int course, Bundle bundle) {
+        List<String> sectionIDs = template.getSectionIDs();
+        return course >= sectionIDs.size() || sectionIDs.get(course).equals(bundle.getRoot().getSectionID());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the array for the domain of the given course at the given level, with room for size bundles
+    private Bundle[] domainBuffer(int level, int variable, int size) {
+        if (domainStack[level][variable] == null || domainStack[level][variable].length < size) {
+            domainStack[level][variable] = new Bundle[size];
+        }
+        return domainStack[level][variable];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the occupied time slots of the starting schedule, and decides the courses of its bundles
+    private void initStart(PartialSchedule start) {
+        List<Bundle> bundles = start.getBundles();
+        startOccupied = TimeMask.empty();
+        for (int variable = 0; variable < bundles.size(); variable++) {
+            Bundle bundle = bundles.get(variable);
+            chosen[variable] = bundle;
+            decided[variable] = true;
+            if (bundle.getOccupancy() == null) {
+                startUnmasked++;
+            } else {
+                TimeMask.addTo(startOccupied, bundle.getOccupancy());
+            }
+        }
+    }
+
+    // REQUIRES: schedule has level bundles, and the domains of level are set
+    // MODIFIES: this
+    // EFFECTS: returns true if the schedule is finished. Otherwise pushes it onto the stack with the course the
+    //          ordering chooses to decide next, and returns false.
+    private boolean pushOrFinish(PartialSchedule schedule, int level, int penalty) {
+        if (level == courseIDs.size()) {
+            return true;
+        }
+        top = level;
+        scheduleStack[level] = schedule;
+        variableStack[level] = ordering.choose(domainSizeStack[level], degrees, decided, 0, courseIDs.size());
+        decided[variableStack[level]] = true;
+        indexStack[level] = 0;
+        penaltyStack[level] = penalty;
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the stack and the course arrays with room for the given number of levels
+    private void allocate(int capacity) {
+        scheduleStack = new PartialSchedule[capacity];
+        variableStack = new int[capacity];
+        indexStack = new int[capacity];
+        penaltyStack = new int[capacity];
+        domainStack = new Bundle[capacity][courseIDs.size()][];
+        domainSizeStack = new int[capacity][courseIDs.size()];
+        chosen = new Bundle[capacity];
+        decided = new boolean[capacity];
+        degrees = new int[capacity];
+    }
+
+    // EFFECTS: returns the overtime penalty of the bundles in the starting schedule, or 0 if there is no bound
+    private int startPenalty(PartialSchedule start) {
+        int penalty = 0;
+        if (bound != null) {
+            for (Bundle bundle : start.getBundles()) {
+                penalty += overtimePenalty(bundle);
+            }
+        }
+        return penalty;
+    }
+
+    // REQUIRES: bound is not null
+    // EFFECTS: returns the overtime penalty of all the sections of the bundle
+    private int overtimePenalty(Bundle bundle) {
+        int penalty = 0;
+        for (Section section : bundle.getSections()) {
+            penalty += bound.overtimePenalty(section);
+        }
+        return penalty;
+    }
+}
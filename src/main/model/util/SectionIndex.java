@@ -0,0 +1,95 @@
+package model.util;
+
+import model.Section;
+import model.SectionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Lookups of the sections of a catalog by course and term, made once when the catalog is loaded. Without it, finding
+// the lectures of one course means scanning every section of the catalog, which is done for every course of every
+// search. The index keeps:
+//     the lectures of every course in every term, keyed by the term followed by the course ID
+//     all the sections of every course, keyed by the course ID
+//     a dense ordinal from 0 to size() - 1 of every section, in the order the sections were given, and every section
+//     by its ordinal
+// Every list is sized to fit and cannot be changed, so it is shared by every caller instead of copied. The ordinals
+// are handles that a Schedule can keep instead of section IDs, so that its sections are found without hashing a
+// string. The index only looks at the section IDs, course IDs, types and terms, so it has to be made again if any of
+// these change.
+public class SectionIndex {
+    private Map<String, List<Section>> lectures;        // the lectures of each course and term
+    private Map<String, List<Section>> courseSections;  // all the sections of each course
+    private Map<String, Integer> ordinals;              // the ordinal of each section ID
+    private Section[] byOrdinal;                        // the section with each ordinal
+
+    // REQUIRES: the sections have different section IDs
+    // EFFECTS: constructs the index of the given sections
+    public SectionIndex(Collection<Section> sections) {
+        Map<String, List<Section>> lectures = new HashMap<>();
+        Map<String, List<Section>> courseSections = new HashMap<>();
+        this.ordinals = new HashMap<>(sections.size() * 2);
+        this.byOrdinal = new Section[sections.size()];
+        for (Section section : sections) {
+            byOrdinal[ordinals.size()] = section;
+            ordinals.put(section.getSectionID(), ordinals.size());
+            courseSections.computeIfAbsent(section.getCourseID(), id -> new ArrayList<>()).add(section);
+            if (section.getSectionType() == SectionType.LECTURE) {
+                lectures.computeIfAbsent(key(section.getCourseID(), section.getTerm()), key -> new ArrayList<>())
+                        .add(section);
+            }
+        }
+        this.lectures = freeze(lectures);
+        this.courseSections = freeze(courseSections);
+    }
+
+    // EFFECTS: returns the number of sections in the index
+    public int size() {
+        return ordinals.size();
+    }
+
+    // EFFECTS: returns the lectures of the given course in the given term, in the order they were given. The list
+    //          cannot be changed.
+    public List<Section> getLectures(String courseID, int term) {
+        return lectures.getOrDefault(key(courseID, term), Collections.emptyList());
+    }
+
+    // EFFECTS: returns every section of the given course in every term, in the order they were given. The list
+    //          cannot be changed.
+    public List<Section> getSectionsOfCourse(String courseID) {
+        return courseSections.getOrDefault(courseID, Collections.emptyList());
+    }
+
+    // EFFECTS: returns the ordinal of the section with the given ID, or -1 if it is not in the index
+    public int getOrdinal(String sectionID) {
+        Integer ordinal = ordinals.get(sectionID);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    // REQUIRES: 0 <= ordinal < size()
+    // EFFECTS: returns the section with the given ordinal
+    public Section getSection(int ordinal) {
+        return byOrdinal[ordinal];
+    }
+
+    // EFFECTS: returns the key of the given course in the given term
+    private static String key(String courseID, int term) {
+        return term + " " + courseID;
+    }
+
+    // EFFECTS: returns a map with the same keys, where every list is copied into one that fits it and cannot be
+    //          changed
+    private static Map<String, List<Section>> freeze(Map<String, List<Section>> lists) {
+        Map<String, List<Section>> result = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<String, List<Section>> entry : lists.entrySet()) {
+            result.put(entry.getKey(),
+                    Collections.unmodifiableList(Arrays.asList(entry.getValue().toArray(new Section[0]))));
+        }
+        return result;
+    }
+}
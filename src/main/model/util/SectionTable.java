@@ -0,0 +1,345 @@
+package model.util;
+
+import model.Course;
+import model.Section;
+import model.SectionType;
+import persistence.JsonReaderCourses;
+import persistence.JsonReaderSections;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Course data for a whole catalog, kept in columns instead of Section objects. A Section holds its IDs and times as
+// strings, a list of weekdays, a time mask and lists of antirequisite IDs, which is about a kilobyte for every section
+// spread all over the heap. The table keeps one array for each field instead, indexed by the ordinal of the section:
+//     its section ID, the ordinal of its course ID, its type, its start and end minutes, its weekdays as a bit mask
+//     over TimeMask.DAYS and its term
+// and its antirequisites in compressed rows: the groups of section s are groupOffsets[s] up to groupOffsets[s + 1],
+// and the sections of group g are the ordinals in members from memberOffsets[g] up to memberOffsets[g + 1]. Sections
+// are found by ID through an open addressing table of ordinals, and the conflict matrix of a term is made straight
+// from the columns.
+//
+// A Section is only made when it is asked for, and then kept, so every caller gets the same object for a section. It
+// is a view of the table: it gives its times back as "H:mm" and its weekdays in the order of TimeMask.DAYS, and it
+// must not be changed, since a change would not be seen by the table. The table itself never changes, so it can be
+// shared by searches on any number of threads.
+public class SectionTable implements CourseData {
+    private String[] sectionIDs;                            // the section ID of each section
+    private int[] courseOrdinals;                           // the position of its course ID in courseIDs
+    private byte[] types;                                   // the ordinal of the SectionType of each section
+    private short[] startMins;                              // the start time of each section in minutes
+    private short[] endMins;                                // the end time of each section in minutes
+    private byte[] dayMasks;                                // bit d is set if held on day d of TimeMask.DAYS
+    private byte[] terms;                                   // the term of each section
+    private int[] groupOffsets;                             // the first antirequisite group of each section
+    private int[] memberOffsets;                            // the first member of each antirequisite group
+    private int[] members;                                  // the sections of every group, one after another
+    private int[] slots;                                    // 1 + the ordinal of the ID in each slot, 0 if none
+    private String[] courseIDs;                             // every course ID of the sections, by course ordinal
+    private Map<String, Course> courses;                    // the courses by course ID
+    private Map<String, List<Section>> lectures;            // the lectures of each course and term, keyed by both
+    private Map<String, List<Section>> courseSections;      // all the sections of each course
+    private AtomicReferenceArray<Section> views;            // the Section of each ordinal, null until asked for
+    private Map<Integer, ConflictMatrix> conflictMatrices;  // the conflict matrix of each term, once asked for
+    private Map<String, List<Bundle>> bundles;              // the bundles of each term and course ID, once asked for
+
+    // REQUIRES: the sections in the source file have different IDs, are held on the days of TimeMask.DAYS and their
+    //           antirequisites are all sections of the file
+    // EFFECTS: constructs a table of the courses and sections in the given files, or an empty table if they cannot be
+    //          read
+    public SectionTable(String sourceCourses, String sourceSections) {
+        try {
+            init(new JsonReaderCourses(sourceCourses).readCourses(),
+                    new JsonReaderSections(sourceSections).readSections());
+        } catch (IOException e) {
+            init(new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    // REQUIRES: the sections have different IDs, are held on the days of TimeMask.DAYS, start and end within a day,
+    //           and their antirequisites are all given sections
+    // EFFECTS: constructs a table of the given courses and sections, in order. The sections are not kept.
+    public SectionTable(List<Course> courses, List<Section> sections) {
+        init(courses, sections);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fills the columns and lookups of the table from the given courses and sections
+    private void init(List<Course> courses, List<Section> sections) {
+        this.courses = new LinkedHashMap<>();
+        for (Course course : courses) {
+            this.courses.put(course.getCourseID(), course);
+        }
+        this.views = new AtomicReferenceArray<>(sections.size());
+        this.conflictMatrices = new ConcurrentHashMap<>();
+        this.bundles = new ConcurrentHashMap<>();
+        setColumns(sections);
+        setSlots();
+        setAntirequisites(sections);
+        setLists();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fills one column for every field of the sections
+    private void setColumns(List<Section> sections) {
+        int size = sections.size();
+        sectionIDs = new String[size];
+        courseOrdinals = new int[size];
+        types = new byte[size];
+        startMins = new short[size];
+        endMins = new short[size];
+        dayMasks = new byte[size];
+        terms = new byte[size];
+        Map<String, Integer> courseOrdinalsByID = new LinkedHashMap<>();
+        for (int s = 0; s < size; s++) {
+            Section section = sections.get(s);
+            sectionIDs[s] = section.getSectionID();
+            courseOrdinals[s] = courseOrdinalsByID.computeIfAbsent(section.getCourseID(),
+                id -> courseOrdinalsByID.size());
+            types[s] = (byte) section.getSectionType().ordinal();
+            startMins[s] = (short) section.getStartTimeInMinutes();
+            endMins[s] = (short) section.getEndTimeInMinutes();
+            dayMasks[s] = dayMask(section);
+            terms[s] = (byte) section.getTerm();
+        }
+        courseIDs = courseOrdinalsByID.keySet().toArray(new String[0]);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: puts the ordinal of every section in the slot its ID hashes to, or the first empty slot after it. There
+    //          are at least twice as many slots as sections, so the empty slots are never far.
+    private void setSlots() {
+        slots = new int[Integer.highestOneBit(Math.max(1, sectionIDs.length)) * 4];
+        for (int s = 0; s < sectionIDs.length; s++) {
+            int slot = slotOf(sectionIDs[s]);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            slots[slot] = s + 1;
+        }
+    }
+
+    // REQUIRES: the slots are set
+    // MODIFIES: this
+    // EFFECTS: stores the antirequisite groups of the sections in compressed rows of ordinals
+    private void setAntirequisites(List<Section> sections) {
+        groupOffsets = new int[sections.size() + 1];
+        List<Integer> groupEnds = new ArrayList<>();
+        List<Integer> ordinals = new ArrayList<>();
+        for (int s = 0; s < sections.size(); s++) {
+            for (List<String> group : sections.get(s).getAntiRequisiteIDs()) {
+                for (String sectionID : group) {
+                    ordinals.add(getOrdinal(sectionID));
+                }
+                groupEnds.add(ordinals.size());
+            }
+            groupOffsets[s + 1] = groupEnds.size();
+        }
+        memberOffsets = new int[groupEnds.size() + 1];
+        for (int g = 0; g < groupEnds.size(); g++) {
+            memberOffsets[g + 1] = groupEnds.get(g);
+        }
+        members = new int[ordinals.size()];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = ordinals.get(i);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the lists of the lectures of every course and term, and of all the sections of every course
+    private void setLists() {
+        Map<String, List<Integer>> lecturesByKey = new HashMap<>();
+        Map<String, List<Integer>> sectionsByCourse = new HashMap<>();
+        for (int s = 0; s < sectionIDs.length; s++) {
+            String courseID = courseIDs[courseOrdinals[s]];
+            sectionsByCourse.computeIfAbsent(courseID, id -> new ArrayList<>()).add(s);
+            if (types[s] == SectionType.LECTURE.ordinal()) {
+                lecturesByKey.computeIfAbsent(terms[s] + " " + courseID, key -> new ArrayList<>()).add(s);
+            }
+        }
+        lectures = toLists(lecturesByKey);
+        courseSections = toLists(sectionsByCourse);
+    }
+
+    // EFFECTS: returns the number of sections in the table
+    public int size() {
+        return sectionIDs.length;
+    }
+
+    // EFFECTS: returns the lectures of the given course in the given term, in order. The list cannot be changed.
+    @Override
+    public List<Section> getRootSections(String courseID, int term) {
+        return lectures.getOrDefault(term + " " + courseID, Collections.emptyList());
+    }
+
+    // EFFECTS: returns every section of the given course in every term, in order. The list cannot be changed.
+    @Override
+    public List<Section> getSectionsOfCourse(String courseID) {
+        return courseSections.getOrDefault(courseID, Collections.emptyList());
+    }
+
+    // EFFECTS: returns the ordinal of the section with the given ID, or -1 if there is no such section
+    @Override
+    public int getOrdinal(String sectionID) {
+        for (int slot = slotOf(sectionID); slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+            if (sectionIDs[slots[slot] - 1].equals(sectionID)) {
+                return slots[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    // EFFECTS: returns the section with the given ID, or null if there is no such section
+    @Override
+    public Section getSection(String sectionID) {
+        int ordinal = getOrdinal(sectionID);
+        return ordinal < 0 ? null : getSection(ordinal);
+    }
+
+    // REQUIRES: 0 <= ordinal < size()
+    // EFFECTS: returns the section with the given ordinal, making it the first time it is asked for
+    @Override
+    public Section getSection(int ordinal) {
+        Section view = views.get(ordinal);
+        if (view == null) {
+            views.compareAndSet(ordinal, null, makeView(ordinal));
+            view = views.get(ordinal);
+        }
+        return view;
+    }
+
+    // EFFECTS: returns a list of the sections with the given IDs, with null for an ID that is not a section
+    @Override
+    public List<Section> getSections(List<String> sectionsIDs) {
+        List<Section> result = new ArrayList<>(sectionsIDs.size());
+        for (String sectionID : sectionsIDs) {
+            result.add(getSection(sectionID));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns a course given the course ID
+    @Override
+    public Course getCourseByID(String courseID) {
+        return courses.get(courseID);
+    }
+
+    // EFFECTS: returns a list of all courses
+    @Override
+    public List<Course> getAllCourse() {
+        return new ArrayList<>(courses.values());
+    }
+
+    // EFFECTS: returns a list of all course IDs
+    @Override
+    public List<String> getAllCourseIDs() {
+        return new ArrayList<>(courses.keySet());
+    }
+
+    // EFFECTS: returns the conflict matrix of all the sections in the given term, made from the columns the first
+    //          time it is asked for
+    @Override
+    public ConflictMatrix getConflictMatrix(int term) {
+        return conflictMatrices.computeIfAbsent(term, this::makeConflictMatrix);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns all the bundles of the given course in the given term. They are expanded the first time they
+    //          are asked for, and then shared by every search that uses this data, also from other threads.
+    @Override
+    public List<Bundle> getBundles(String courseID, int term) {
+        return bundles.computeIfAbsent(term + " " + courseID,
+            key -> Collections.unmodifiableList(Bundle.expand(this, courseID, term)));
+    }
+
+    // EFFECTS: returns the conflict matrix of the sections in the given term, in order
+    private ConflictMatrix makeConflictMatrix(int term) {
+        List<Integer> inTerm = new ArrayList<>();
+        for (int s = 0; s < sectionIDs.length; s++) {
+            if (terms[s] == term) {
+                inTerm.add(s);
+            }
+        }
+        List<String> termSectionIDs = new ArrayList<>(inTerm.size());
+        int[] termDayMasks = new int[inTerm.size()];
+        int[] termStartMins = new int[inTerm.size()];
+        int[] termEndMins = new int[inTerm.size()];
+        for (int i = 0; i < inTerm.size(); i++) {
+            termSectionIDs.add(sectionIDs[inTerm.get(i)]);
+            termDayMasks[i] = dayMasks[inTerm.get(i)];
+            termStartMins[i] = startMins[inTerm.get(i)];
+            termEndMins[i] = endMins[inTerm.get(i)];
+        }
+        return new ConflictMatrix(termSectionIDs, termDayMasks, termStartMins, termEndMins);
+    }
+
+    // EFFECTS: returns a new Section with the fields of the section with the given ordinal
+    private Section makeView(int ordinal) {
+        List<List<String>> antiRequisiteIDs = new ArrayList<>();
+        for (int g = groupOffsets[ordinal]; g < groupOffsets[ordinal + 1]; g++) {
+            List<String> group = new ArrayList<>();
+            for (int i = memberOffsets[g]; i < memberOffsets[g + 1]; i++) {
+                group.add(sectionIDs[members[i]]);
+            }
+            antiRequisiteIDs.add(group);
+        }
+        return new Section(sectionIDs[ordinal], courseIDs[courseOrdinals[ordinal]],
+                SectionType.values()[types[ordinal]], HelperUtil.minutesToShortTime(startMins[ordinal]),
+                HelperUtil.minutesToShortTime(endMins[ordinal]), TimeMask.days(dayMasks[ordinal]), terms[ordinal],
+                antiRequisiteIDs);
+    }
+
+    // EFFECTS: returns the slot the given section ID hashes to
+    private int slotOf(String sectionID) {
+        int hash = sectionID.hashCode();
+        return (hash ^ (hash >>> 16)) & (slots.length - 1);
+    }
+
+    // EFFECTS: returns a map with the same keys, where every list of ordinals is made into a list of their sections
+    //          that cannot be changed
+    private Map<String, List<Section>> toLists(Map<String, List<Integer>> ordinals) {
+        Map<String, List<Section>> result = new HashMap<>(ordinals.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : ordinals.entrySet()) {
+            int[] array = new int[entry.getValue().size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = entry.getValue().get(i);
+            }
+            result.put(entry.getKey(), sectionList(array));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns a list of the sections with the given ordinals, which are only made when they are asked for.
+    //          The list cannot be changed.
+    private List<Section> sectionList(int[] ordinals) {
+        return new AbstractList<Section>() {
+            @Override
+            public Section get(int index) {
+                return getSection(ordinals[index]);
+            }
+
+            @Override
+            public int size() {
+                return ordinals.length;
+            }
+        };
+    }
+
+    // EFFECTS: returns the bit mask over TimeMask.DAYS of the weekdays of the section. Throws
+    //          IllegalArgumentException if any of them is not in TimeMask.DAYS.
+    private static byte dayMask(Section section) {
+        int mask = TimeMask.dayMask(section.getWeekDays());
+        if (mask < 0) {
+            throw new IllegalArgumentException("Unknown weekday of " + section.getSectionID());
+        }
+        return (byte) mask;
+    }
+}
@@ -0,0 +1,95 @@
+package model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Utility class for weekly occupancy masks. A week is split into 5 minute slots (288 slots per day, 7 days), and a
+// mask is an array of longs where bit i is set if slot i of the week is occupied. Two sections have a time conflict
+// exactly when their masks share a set bit, so a conflict check is a few AND operations instead of comparing weekday
+// strings and start and end times.
+//
+// A mask can only be made for a section that starts before it ends, starts and ends on a slot boundary, and is held
+// on weekdays from "Mon" to "Sun". For any other section of() returns null, and the caller has to compare times the
+// old way.
+public class TimeMask {
+    public static final int SLOT_MINUTES = 5;
+    public static final List<String> DAYS = Arrays.asList("Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun");
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int LENGTH = (DAYS.size() * SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private TimeMask() {
+    }
+
+    // EFFECTS: returns a new mask with no occupied slots
+    public static long[] empty() {
+        return new long[LENGTH];
+    }
+
+    // EFFECTS: returns the mask of a section held from startMin to endMin on the given weekdays, or null if the section
+    //          cannot be represented by a mask
+    public static long[] of(int startMin, int endMin, List<String> weekDays) {
+        if (weekDays == null || startMin < 0 || startMin >= endMin || endMin > 24 * 60
+                || startMin % SLOT_MINUTES != 0 || endMin % SLOT_MINUTES != 0) {
+            return null;
+        }
+        long[] mask = empty();
+        for (String weekDay : weekDays) {
+            int day = DAYS.indexOf(weekDay);
+            if (day < 0) {
+                return null;
+            }
+            int dayStart = day * SLOTS_PER_DAY;
+            for (int slot = dayStart + startMin / SLOT_MINUTES; slot < dayStart + endMin / SLOT_MINUTES; slot++) {
+                mask[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+            }
+        }
+        return mask;
+    }
+
+    // REQUIRES: mask1 and mask2 are masks of the same length
+    // EFFECTS: returns true if the two masks have an occupied slot in common
+    public static boolean intersects(long[] mask1, long[] mask2) {
+        for (int i = 0; i < mask1.length; i++) {
+            if ((mask1[i] & mask2[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // EFFECTS: returns the weekdays as a bit mask, where bit d is set if day d of DAYS is one of them, or -1 if any of
+    //          them is not in DAYS
+    public static int dayMask(List<String> weekDays) {
+        int mask = 0;
+        for (String weekDay : weekDays) {
+            int day = DAYS.indexOf(weekDay);
+            if (day < 0) {
+                return -1;
+            }
+            mask |= 1 << day;
+        }
+        return mask;
+    }
+
+    // REQUIRES: mask is a bit mask of days (see dayMask)
+    // EFFECTS: returns the weekdays of the mask, in the order of DAYS
+    public static List<String> days(int mask) {
+        List<String> weekDays = new ArrayList<>();
+        for (int day = 0; day < DAYS.size(); day++) {
+            if ((mask & (1 << day)) != 0) {
+                weekDays.add(DAYS.get(day));
+            }
+        }
+        return weekDays;
+    }
+
+    // REQUIRES: target and mask are masks of the same length
+    // MODIFIES: target
+    // EFFECTS: marks all the occupied slots of mask as occupied in target
+    public static void addTo(long[] target, long[] mask) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= mask[i];
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package model.util;
+
+// Chooses which course a SearchEngine branches on next. The courses that a search has to decide are its variables,
+// numbered in the order they were added to the schedule.
+public interface VariableOrdering {
+
+    // REQUIRES: from < to, and at least one of the variables from (inclusive) to to (exclusive) is not decided
+    // EFFECTS: returns one of the variables from to to that is not decided. domainSizes holds the number of bundles of
+    //          each variable that do not conflict with the partial schedule, and degrees holds the number of other
+    //          variables that are not decided whose bundles share any time with the variable's bundles.
+    int choose(int[] domainSizes, int[] degrees, boolean[] decided, int from, int to);
+}
@@ -0,0 +1,173 @@
+package model.util;
+
+import model.Weight;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// An index of the best class of a FeasibleSet for every compact and balance weight, with fixed preferred times. With
+// the preferred times fixed, the overtime penalty of every class is fixed too, so its score
+//     (compact score * compact weight + balance score * balance weight) / (1 + overtime penalty)
+// is linear in the two weights. Only their ratio decides which class is best, so for a compact share
+//     t = compact weight / (compact weight + balance weight)
+// between 0 and 1, every class is a line
+//     score(t) = (1 - t) * balance score / (1 + overtime penalty) + t * compact score / (1 + overtime penalty)
+// and the best class for t is on the upper envelope of these lines. The envelope is made once, in order of t, with the
+// share at which each class takes over from the one before; finding the best class for a weight is then a binary
+// search over these shares, and gives the range of shares over which it stays the best.
+//
+// The envelope is made with doubles, while scores are floats, so near a break the classes on both sides are scored
+// the same way as by FeasibleSet.rank, and the best of them is taken. Classes with the same score as the best one
+// within float rounding may still come first in rank instead.
+public class WeightSensitivityIndex {
+    private FeasibleSet feasibleSet;     // the classes that are indexed
+    private int preferredStartTime;      // the preferred start time of the weights the index is for
+    private int preferredEndTime;        // the preferred end time of the weights the index is for
+    private int[] envelope;              // the classes on the upper envelope, in order of the shares they are best for
+    private double[] breaks;             // breaks[i] is the share at which envelope[i + 1] takes over from envelope[i]
+
+    // EFFECTS: constructs the index of the best class of the feasible set for weights with the given preferred times
+    public WeightSensitivityIndex(FeasibleSet feasibleSet, int preferredStartTime, int preferredEndTime) {
+        this.feasibleSet = feasibleSet;
+        this.preferredStartTime = preferredStartTime;
+        this.preferredEndTime = preferredEndTime;
+        double[] intercepts = new double[feasibleSet.size()];
+        double[] slopes = new double[feasibleSet.size()];
+        ScoreBound bound = new ScoreBound(new Weight(1, 1, preferredStartTime, preferredEndTime));
+        Map<Bundle, Integer> penalties = new HashMap<>();
+        for (int i = 0; i < intercepts.length; i++) {
+            double overtimeScore = 1 / (double) (1 + feasibleSet.overtimePenalty(i, bound, penalties));
+            intercepts[i] = feasibleSet.getBalanceScore(i) * overtimeScore;
+            slopes[i] = feasibleSet.getCompactScore(i) * overtimeScore - intercepts[i];
+        }
+        makeEnvelope(intercepts, slopes);
+    }
+
+    public int getPreferredStartTime() {
+        return preferredStartTime;
+    }
+
+    public int getPreferredEndTime() {
+        return preferredEndTime;
+    }
+
+    // EFFECTS: returns the number of classes that are the best for some share
+    public int size() {
+        return envelope.length;
+    }
+
+    // REQUIRES: 0 <= position < size()
+    // EFFECTS: returns the lowest compact share for which the class at the given position of the envelope is the best
+    public double getLowestShare(int position) {
+        return position == 0 ? 0 : breaks[position - 1];
+    }
+
+    // REQUIRES: 0 <= position < size()
+    // EFFECTS: returns the highest compact share for which the class at the given position of the envelope is the best
+    public double getHighestShare(int position) {
+        return position == envelope.length - 1 ? 1 : breaks[position];
+    }
+
+    // REQUIRES: the feasible set is not empty, weight has the preferred times of this index, and its compact and
+    //           balance weights are not negative and not both 0
+    // EFFECTS: returns the best class of the feasible set for the given weight, scored with it
+    public ScheduleClass top(Weight weight) {
+        return feasibleSet.get(envelope[find(weight)], weight);
+    }
+
+    // REQUIRES: the feasible set is not empty, weight has the preferred times of this index, and its compact and
+    //           balance weights are not negative and not both 0
+    // EFFECTS: returns the position on the envelope of the best class for the given weight
+    public int find(Weight weight) {
+        double share = (double) weight.getCompactWeight() / (weight.getCompactWeight() + weight.getBalanceWeight());
+        int low = 0;
+        int high = breaks.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (breaks[middle] < share) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int best = low;
+        for (int position = Math.max(0, low - 1); position <= Math.min(envelope.length - 1, low + 1); position++) {
+            if (isBetter(position, best, weight)) {
+                best = position;
+            }
+        }
+        return best;
+    }
+
+    // EFFECTS: returns true if the class at the given position ranks before the one at other for the given weight:
+    //          it has a higher score, or the same score and comes first in the feasible set
+    private boolean isBetter(int position, int other, Weight weight) {
+        float score = feasibleSet.get(envelope[position], weight).getScore();
+        float otherScore = feasibleSet.get(envelope[other], weight).getScore();
+        return score > otherScore || score == otherScore && envelope[position] < envelope[other];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the upper envelope of the lines with the given intercepts and slopes over the shares from 0 to 1.
+    //          Of lines that are the same, only the first one is kept.
+    private void makeEnvelope(double[] intercepts, double[] slopes) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < intercepts.length; i++) {
+            order.add(i);
+        }
+        Collections.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                if (slopes[o1] != slopes[o2]) {
+                    return Double.compare(slopes[o1], slopes[o2]);
+                }
+                return intercepts[o1] != intercepts[o2] ? Double.compare(intercepts[o2], intercepts[o1]) : o1 - o2;
+            }
+        });
+        int[] stack = new int[order.size()];
+        int top = -1;
+        for (int line : order) {
+            if (top >= 0 && slopes[stack[top]] == slopes[line]) {
+                continue;
+            }
+            while (top >= 1 && cross(stack[top - 1], line, intercepts, slopes)
+                    <= cross(stack[top - 1], stack[top], intercepts, slopes)) {
+                top--;
+            }
+            stack[++top] = line;
+        }
+        clip(stack, top + 1, intercepts, slopes);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: keeps the lines of the first size lines of the envelope that are the best for a share from 0 to 1, and
+    //          the shares at which they take over from each other
+    private void clip(int[] stack, int size, double[] intercepts, double[] slopes) {
+        int first = 0;
+        int last = size - 1;
+        while (first < last && cross(stack[first], stack[first + 1], intercepts, slopes) <= 0) {
+            first++;
+        }
+        while (first < last && cross(stack[last - 1], stack[last], intercepts, slopes) >= 1) {
+            last--;
+        }
+        envelope = new int[Math.max(0, last - first + 1)];
+        breaks = new double[Math.max(0, last - first)];
+        for (int i = 0; i < envelope.length; i++) {
+            envelope[i] = stack[first + i];
+            if (i > 0) {
+                breaks[i - 1] = cross(envelope[i - 1], envelope[i], intercepts, slopes);
+            }
+        }
+    }
+
+    // REQUIRES: slopes[line] < slopes[other]
+    // EFFECTS: returns the share at which the line other rises above the line line
+    private static double cross(int line, int other, double[] intercepts, double[] slopes) {
+        return (intercepts[line] - intercepts[other]) / (slopes[other] - slopes[line]);
+    }
+}
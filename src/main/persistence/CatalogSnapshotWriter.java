@@ -0,0 +1,227 @@
+package persistence;
+
+import model.Course;
+import model.Section;
+import model.util.CatalogSnapshot;
+import model.util.TimeMask;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents a compiler of the course and section files of a catalog into a binary snapshot, which CatalogSnapshot
+// opens without parsing anything (see CatalogSnapshot for the format). The snapshot is written next to the
+// destination and then moved over it, so a program that has the old snapshot open keeps seeing the old one.
+public class CatalogSnapshotWriter {
+    private String destination;                      // the file the snapshot is written to
+    private Map<String, Integer> strings;            // the index of every string of the snapshot, in order
+    private Map<String, Integer> courseOrdinals;     // the ordinal of every course ID, in order
+    private Map<String, Integer> sectionOrdinals;    // the ordinal of every section ID, in order
+
+    // EFFECTS: constructs a writer of a snapshot to the destination file
+    public CatalogSnapshotWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // EFFECTS: reads the courses and sections of the given files and writes their snapshot. Throws IOException if
+    //          they cannot be read or the snapshot cannot be written.
+    public void compile(String sourceCourses, String sourceSections) throws IOException {
+        write(new JsonReaderCourses(sourceCourses).readCourses(),
+                new JsonReaderSections(sourceSections).readSections());
+    }
+
+    // REQUIRES: the sections have different IDs, start and end within a day, and the courses have different IDs
+    // EFFECTS: writes the snapshot of the given courses and sections, in order. Throws IOException if it cannot be
+    //          written, and IllegalArgumentException if a section is held on a day that is not in TimeMask.DAYS or
+    //          has an antirequisite that is not one of the sections.
+    public void write(List<Course> courses, List<Section> sections) throws IOException {
+        setOrdinals(courses, sections);
+        int[][] antirequisites = antirequisites(sections);
+        int[][] courseSections = courseSections(sections);
+        Path target = Paths.get(destination);
+        Path temporary = Paths.get(destination + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                writeHeader(out, courses.size(), sections.size(), antirequisites);
+                writeStringOffsets(out);
+                writeCourses(out, courses);
+                writeInts(out, courseSections);
+                writeSections(out, sections);
+                writeInts(out, antirequisites);
+                writeInts(out, slots(courseOrdinals), slots(sectionOrdinals));
+                writeStringData(out);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gives an ordinal to every course ID, those of the courses first and then those only named by
+    //          sections, and to every section ID, and an index to every string of the snapshot
+    private void setOrdinals(List<Course> courses, List<Section> sections) {
+        strings = new LinkedHashMap<>();
+        courseOrdinals = new LinkedHashMap<>();
+        sectionOrdinals = new LinkedHashMap<>();
+        for (Course course : courses) {
+            courseOrdinals.put(course.getCourseID(), courseOrdinals.size());
+            strings.putIfAbsent(course.getCourseID(), strings.size());
+            strings.putIfAbsent(course.getDescription(), strings.size());
+        }
+        for (Section section : sections) {
+            if (!courseOrdinals.containsKey(section.getCourseID())) {
+                courseOrdinals.put(section.getCourseID(), courseOrdinals.size());
+                strings.putIfAbsent(section.getCourseID(), strings.size());
+            }
+            sectionOrdinals.put(section.getSectionID(), sectionOrdinals.size());
+            strings.putIfAbsent(section.getSectionID(), strings.size());
+        }
+    }
+
+    // EFFECTS: returns the group offsets, member offsets and members of the antirequisites of the sections
+    private int[][] antirequisites(List<Section> sections) {
+        int[] groupOffsets = new int[sections.size() + 1];
+        List<Integer> memberOffsets = new ArrayList<>();
+        List<Integer> members = new ArrayList<>();
+        memberOffsets.add(0);
+        for (int s = 0; s < sections.size(); s++) {
+            for (List<String> group : sections.get(s).getAntiRequisiteIDs()) {
+                for (String sectionID : group) {
+                    members.add(ordinal(sectionID, sections.get(s)));
+                }
+                memberOffsets.add(members.size());
+            }
+            groupOffsets[s + 1] = memberOffsets.size() - 1;
+        }
+        return new int[][] {groupOffsets, toArray(memberOffsets), toArray(members)};
+    }
+
+    // EFFECTS: returns the section offsets of every course and the ordinals of the sections grouped by course
+    private int[][] courseSections(List<Section> sections) {
+        List<List<Integer>> byCourse = new ArrayList<>();
+        for (int c = 0; c < courseOrdinals.size(); c++) {
+            byCourse.add(new ArrayList<>());
+        }
+        for (int s = 0; s < sections.size(); s++) {
+            byCourse.get(courseOrdinals.get(sections.get(s).getCourseID())).add(s);
+        }
+        int[] offsets = new int[byCourse.size() + 1];
+        List<Integer> ordinals = new ArrayList<>();
+        for (int c = 0; c < byCourse.size(); c++) {
+            ordinals.addAll(byCourse.get(c));
+            offsets[c + 1] = ordinals.size();
+        }
+        return new int[][] {offsets, toArray(ordinals)};
+    }
+
+    // EFFECTS: writes the header of the snapshot
+    private void writeHeader(DataOutputStream out, int numOfListedCourses, int numOfSections, int[][] antirequisites)
+            throws IOException {
+        out.writeInt(CatalogSnapshot.MAGIC);
+        out.writeInt(CatalogSnapshot.VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(courseOrdinals.size());
+        out.writeInt(numOfListedCourses);
+        out.writeInt(numOfSections);
+        out.writeInt(antirequisites[1].length - 1);
+        out.writeInt(antirequisites[2].length);
+        out.writeInt(CatalogSnapshot.numOfSlots(courseOrdinals.size()));
+        out.writeInt(CatalogSnapshot.numOfSlots(numOfSections));
+    }
+
+    // EFFECTS: writes where every string starts in the string data, and where the last one ends
+    private void writeStringOffsets(DataOutputStream out) throws IOException {
+        int offset = 0;
+        out.writeInt(offset);
+        for (String string : strings.keySet()) {
+            offset += string.getBytes(StandardCharsets.UTF_8).length;
+            out.writeInt(offset);
+        }
+    }
+
+    // EFFECTS: writes the UTF-8 bytes of every string, one after another
+    private void writeStringData(DataOutputStream out) throws IOException {
+        for (String string : strings.keySet()) {
+            out.write(string.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // EFFECTS: writes the record of every course ID, with the description of the given courses
+    private void writeCourses(DataOutputStream out, List<Course> courses) throws IOException {
+        for (String courseID : courseOrdinals.keySet()) {
+            out.writeInt(strings.get(courseID));
+            int ordinal = courseOrdinals.get(courseID);
+            out.writeInt(ordinal < courses.size() ? strings.get(courses.get(ordinal).getDescription()) : -1);
+        }
+    }
+
+    // EFFECTS: writes the record of every section
+    private void writeSections(DataOutputStream out, List<Section> sections) throws IOException {
+        for (Section section : sections) {
+            int dayMask = TimeMask.dayMask(section.getWeekDays());
+            if (dayMask < 0) {
+                throw new IllegalArgumentException("Unknown weekday of " + section.getSectionID());
+            }
+            out.writeInt(strings.get(section.getSectionID()));
+            out.writeInt(courseOrdinals.get(section.getCourseID()));
+            out.writeShort(section.getStartTimeInMinutes());
+            out.writeShort(section.getEndTimeInMinutes());
+            out.writeByte(section.getSectionType().ordinal());
+            out.writeByte(dayMask);
+            out.writeByte(section.getTerm());
+            out.writeByte(0);
+        }
+    }
+
+    // EFFECTS: returns the slots of the given IDs: 1 + the ordinal of the ID in every slot it is found in, 0 if none
+    private static int[] slots(Map<String, Integer> ordinals) {
+        int[] slots = new int[CatalogSnapshot.numOfSlots(ordinals.size())];
+        for (Map.Entry<String, Integer> entry : ordinals.entrySet()) {
+            int slot = CatalogSnapshot.slotOf(entry.getKey().hashCode(), slots.length);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            slots[slot] = entry.getValue() + 1;
+        }
+        return slots;
+    }
+
+    // EFFECTS: writes every int of the given arrays, in order
+    private static void writeInts(DataOutputStream out, int[]... arrays) throws IOException {
+        for (int[] array : arrays) {
+            for (int value : array) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    // EFFECTS: returns the ordinal of the antirequisite with the given ID of the given section. Throws
+    //          IllegalArgumentException if it is not a section.
+    private int ordinal(String sectionID, Section section) {
+        Integer ordinal = sectionOrdinals.get(sectionID);
+        if (ordinal == null) {
+            throw new IllegalArgumentException("Unknown antirequisite " + sectionID + " of " + section.getSectionID());
+        }
+        return ordinal;
+    }
+
+    // EFFECTS: returns the values in an array, in order
+    private static int[] toArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+}
@@ -10,6 +10,7 @@ import java.util.stream.Stream;
 
 import model.Schedule;
 import model.Weight;
+import model.util.CourseData;
 import model.util.CourseRealData;
 import org.json.*;
 
@@ -17,10 +18,17 @@ import org.json.*;
 // Represents a reader that reads a schedule from JSON data stored in file
 public class JsonReaderSchedule {
     private String source;
+    private CourseData data; // the course data of the schedules read, null to read the course files for each
 
     // EFFECTS: constructs reader to read from source file
     public JsonReaderSchedule(String source) {
+        this(source, null);
+    }
+
+    // EFFECTS: constructs reader to read schedules on the given course data from source file
+    public JsonReaderSchedule(String source, CourseData data) {
         this.source = source;
+        this.data = data;
     }
 
     // EFFECTS: reads Schedule from file and returns it;
@@ -57,8 +65,8 @@ public class JsonReaderSchedule {
     private Schedule parseSchedule(JSONObject jsonObject) {
         String name = jsonObject.getString("name");
         int term = jsonObject.getInt("term");
-        Schedule s = new Schedule(name, term,
-                new Weight(1, 1, 1, 1), new CourseRealData("./data/courses.json", "./data/sections.json"));
+        Schedule s = new Schedule(name, term, new Weight(1, 1, 1, 1),
+                data != null ? data : new CourseRealData("./data/courses.json", "./data/sections.json"));
         addCourses(s, jsonObject);
         addSections(s, jsonObject);
         addWeight(s, jsonObject);
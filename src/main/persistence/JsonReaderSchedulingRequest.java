@@ -0,0 +1,99 @@
+package persistence;
+
+import model.Schedule;
+import model.Weight;
+import model.util.CourseData;
+import model.util.SchedulingRequest;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Represents a reader that reads scheduling requests from JSON, such as the lines of an NDJSON batch file:
+//     {"id": "student 1", "courses": ["CPSC 110", "MATH 180"], "term": 1,
+//      "weight": {"compactWeight": 1, "balanceWeight": 1, "preferredStartTime": 540, "preferredEndTime": 960},
+//      "numOfSchedules": 5, "timeLimit": 1000, "nodeBudget": 1000000, "beamWidth": 16}
+// The weight is in the same format as the saved preferences. The id, the number of schedules (1 by default), the
+// time limit in milliseconds, the node budget (none by default) and the beam width of an approximate search (0, an
+// exact search, by default) can be left out, and none of them can be negative. All requests are scheduled with the
+// same course data.
+// It also reads finished schedules in the format they are saved in, to be saved by a client of the scheduler.
+public class JsonReaderSchedulingRequest {
+    private CourseData data;
+
+    // EFFECTS: constructs reader that makes requests for the given course data
+    public JsonReaderSchedulingRequest(CourseData data) {
+        this.data = data;
+    }
+
+    // EFFECTS: reads a request from the given JSON text and returns it; throws JSONException if it is not a valid
+    //          request or names a course that is not in the course data
+    public SchedulingRequest read(String json) throws JSONException {
+        return parseRequest(new JSONObject(json));
+    }
+
+    // EFFECTS: reads a finished schedule in the format of Schedule.toJsonObject from the given JSON text, calculates
+    //          its score and returns it; throws JSONException if it is not a valid schedule or names a course or
+    //          section that is not in the course data
+    public Schedule readSchedule(String json) throws JSONException {
+        JSONObject jsonObject = new JSONObject(json);
+        Schedule schedule = parseSchedule(jsonObject, jsonObject.getString("name"));
+        JSONArray sectionIDs = jsonObject.getJSONArray("sectionIDs");
+        for (int i = 0; i < sectionIDs.length(); i++) {
+            String sectionID = sectionIDs.getString(i);
+            if (data.getSection(sectionID) == null) {
+                throw new JSONException("Unknown section " + sectionID);
+            }
+            schedule.addSectionID(sectionID);
+        }
+        schedule.calculateScore();
+        return schedule;
+    }
+
+    // EFFECTS: parses a request from JSON object and returns it
+    private SchedulingRequest parseRequest(JSONObject jsonObject) throws JSONException {
+        Schedule schedule = parseSchedule(jsonObject, jsonObject.optString("id", ""));
+        SchedulingRequest request = new SchedulingRequest(schedule,
+                (int) parseNonNegative(jsonObject, "numOfSchedules", 1, Integer.MAX_VALUE));
+        request.setTimeLimit(parseNonNegative(jsonObject, "timeLimit", 0, Long.MAX_VALUE));
+        request.setNodeBudget(parseNonNegative(jsonObject, "nodeBudget", 0, Long.MAX_VALUE));
+        request.setBeamWidth((int) parseNonNegative(jsonObject, "beamWidth", 0, Integer.MAX_VALUE));
+        return request;
+    }
+
+    // EFFECTS: parses the number with the given key from JSON object and returns it, or the default value if there is
+    //          none; throws JSONException if it is negative or above max
+    private static long parseNonNegative(JSONObject jsonObject, String key, long defaultValue, long max)
+            throws JSONException {
+        long value = jsonObject.optLong(key, defaultValue);
+        if (value < 0 || value > max) {
+            throw new JSONException(key + " must be between 0 and " + max);
+        }
+        return value;
+    }
+
+    // EFFECTS: parses the term, weight and courses of a schedule with the given name from JSON object and returns it
+    private Schedule parseSchedule(JSONObject jsonObject, String name) throws JSONException {
+        Weight weight = parseWeight(jsonObject.getJSONObject("weight"));
+        Schedule schedule = new Schedule(name, jsonObject.getInt("term"), weight, data);
+        JSONArray courses = jsonObject.getJSONArray("courses");
+        List<String> courseIDs = new ArrayList<>(courses.length());
+        for (int i = 0; i < courses.length(); i++) {
+            String courseID = courses.getString(i);
+            if (data.getCourseByID(courseID) == null) {
+                throw new JSONException("Unknown course " + courseID);
+            }
+            courseIDs.add(courseID);
+        }
+        schedule.addCoursesByIDs(courseIDs);
+        return schedule;
+    }
+
+    // EFFECTS: parses weights from JSON object and returns it
+    private Weight parseWeight(JSONObject jsonObject) throws JSONException {
+        return new Weight(jsonObject.getInt("compactWeight"), jsonObject.getInt("balanceWeight"),
+                jsonObject.getInt("preferredStartTime"), jsonObject.getInt("preferredEndTime"));
+    }
+}
@@ -0,0 +1,23 @@
+package ui;
+
+import persistence.CatalogSnapshotWriter;
+
+import java.io.IOException;
+
+// The command line entry point of the catalog snapshot compiler (see CatalogSnapshotWriter). Usage:
+//     CatalogSnapshotApp [courses file] [sections file] [snapshot file]
+// which compiles ./data/courses.json and ./data/sections.json into ./data/catalog.snapshot by default. The scheduler
+// apps open the snapshot instead of the JSON files as long as it is not older than them.
+public class CatalogSnapshotApp {
+
+    // EFFECTS: compiles the course and section files into a snapshot, then prints where it was written and how long
+    //          it took to standard error
+    public static void main(String[] args) throws IOException {
+        String courses = args.length > 0 ? args[0] : SchedulerApp.JSON_STORE_COURSES;
+        String sections = args.length > 1 ? args[1] : SchedulerApp.JSON_STORE_SECTIONS;
+        String snapshot = args.length > 2 ? args[2] : SchedulerApp.CATALOG_SNAPSHOT;
+        long start = System.nanoTime();
+        new CatalogSnapshotWriter(snapshot).compile(courses, sections);
+        System.err.println("Wrote " + snapshot + " in " + (System.nanoTime() - start) / 1000000L + " ms");
+    }
+}
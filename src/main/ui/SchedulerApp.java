@@ -3,12 +3,17 @@ package ui;
 
 import model.Schedule;
 import model.Weight;
+import model.util.CatalogSnapshot;
+import model.util.CourseData;
 import model.util.CourseRealData;
+import model.util.FeasibleSet;
+import model.util.ScheduleCache;
 import org.json.JSONArray;
 import persistence.JsonReaderPreferences;
 import persistence.JsonReaderSchedule;
 import persistence.JsonWriter;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.*;
@@ -17,6 +22,9 @@ import java.util.*;
 public abstract class SchedulerApp {
     public static final String JSON_STORE_WEIGHT = "./data/weight.json";
     public static final String JSON_STORE_SCHEDULE = "./data/schedule.json";
+    public static final String JSON_STORE_COURSES = "./data/courses.json";
+    public static final String JSON_STORE_SECTIONS = "./data/sections.json";
+    public static final String CATALOG_SNAPSHOT = "./data/catalog.snapshot";
     public static final List<String> WEEKDAYS = Arrays.asList("Mon", "Tue", "Wed", "Thu", "Fri");
     protected Weight preferredWeights = new Weight(1, 1, "9:00", "16:00");
     protected JsonReaderPreferences jsonReaderPreferences;
@@ -24,12 +32,13 @@ public abstract class SchedulerApp {
     protected JsonWriter jsonWriterPreferences;
     protected JsonWriter jsonWriterSchedules;
     protected List<Schedule> savedSchedules;
-    protected CourseRealData data = new CourseRealData("./data/courses.json", "./data/sections.json");
+    protected CourseData data = loadCourseData();
+    protected ScheduleCache<FeasibleSet> feasibleSetCache = ScheduleCache.forFeasibleSets(32, 1000000);
 
     // constructor
     SchedulerApp() {
         jsonReaderPreferences = new JsonReaderPreferences(JSON_STORE_WEIGHT);
-        jsonReaderSchedule = new JsonReaderSchedule(JSON_STORE_SCHEDULE);
+        jsonReaderSchedule = new JsonReaderSchedule(JSON_STORE_SCHEDULE, data);
         jsonWriterPreferences = new JsonWriter(JSON_STORE_WEIGHT);
         jsonWriterSchedules = new JsonWriter(JSON_STORE_SCHEDULE);
         this.savedSchedules = loadSavedSchedules();
@@ -45,10 +54,29 @@ public abstract class SchedulerApp {
         }
     }
 
-    public CourseRealData getData() {
+    public CourseData getData() {
         return data;
     }
 
+    // EFFECTS: returns the course data of the catalog snapshot if there is one that is not older than the course and
+    //          section files (see CatalogSnapshotApp), or else reads the course and section files
+    private static CourseData loadCourseData() {
+        File snapshot = new File(CATALOG_SNAPSHOT);
+        if (snapshot.lastModified() >= new File(JSON_STORE_COURSES).lastModified()
+                && snapshot.lastModified() >= new File(JSON_STORE_SECTIONS).lastModified() && snapshot.isFile()) {
+            try {
+                return new CatalogSnapshot(CATALOG_SNAPSHOT);
+            } catch (IOException e) {
+                System.err.println("Cannot open " + CATALOG_SNAPSHOT + ", reading the course files instead.");
+            }
+        }
+        return new CourseRealData(JSON_STORE_COURSES, JSON_STORE_SECTIONS);
+    }
+
+    public ScheduleCache<FeasibleSet> getFeasibleSetCache() {
+        return feasibleSetCache;
+    }
+
     public Weight getPreferredWeights() {
         return preferredWeights;
     }
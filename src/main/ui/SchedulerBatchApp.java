@@ -0,0 +1,44 @@
+package ui;
+
+import model.util.BatchScheduler;
+import model.util.CourseData;
+import model.util.SectionTable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+// The command line entry point of the batch scheduler (see BatchScheduler). Usage:
+//     SchedulerBatchApp <requests file> <results file> [threads]
+// where "-" reads the requests from standard input or writes the results to standard output. The number of threads is
+// the number of processors by default. The catalog is loaded into a SectionTable, which keeps it in far less memory
+// than Section objects.
+public class SchedulerBatchApp {
+
+    // EFFECTS: schedules every request of the requests file and writes their results to the results file, then prints
+    //          the number of requests and the total time to standard error
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SchedulerBatchApp <requests file> <results file> [threads]");
+            System.exit(2);
+        }
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        CourseData data = new SectionTable("./data/courses.json", "./data/sections.json");
+        long start = System.nanoTime();
+        int numOfRequests;
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(openInput(args[0]), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(openOutput(args[1]), StandardCharsets.UTF_8))) {
+            numOfRequests = new BatchScheduler(data, threads).run(in, out);
+        }
+        System.err.println(numOfRequests + " requests scheduled in " + (System.nanoTime() - start) / 1000000L + " ms");
+    }
+
+    // EFFECTS: opens the file with the given name for reading, or returns standard input if it is "-"
+    private static InputStream openInput(String fileName) throws FileNotFoundException {
+        return fileName.equals("-") ? System.in : new FileInputStream(fileName);
+    }
+
+    // EFFECTS: opens the file with the given name for writing, or returns standard output if it is "-"
+    private static OutputStream openOutput(String fileName) throws FileNotFoundException {
+        return fileName.equals("-") ? System.out : new FileOutputStream(fileName);
+    }
+}
@@ -3,7 +3,6 @@ package ui;
 
 import model.*;
 import model.exceptions.InvalidTimeException;
-import model.util.CourseRealData;
 import model.util.HelperUtil;
 
 import model.util.Scheduler;
@@ -291,8 +290,7 @@ public class SchedulerConsoleApp extends SchedulerApp {
 
     // EFFECTS: displays the course selection menu
     private void displayCourseSelectionMenu() {
-        Schedule schedule = new Schedule("default name", 1,
-                preferredWeights, new CourseRealData("./data/courses.json", "./data/sections.json"));
+        Schedule schedule = new Schedule("default name", 1, preferredWeights, data);
         displayCourseSelection(schedule);
     }
 
@@ -351,10 +349,11 @@ public class SchedulerConsoleApp extends SchedulerApp {
     }
 
 
-    // EFFECTS: calculates the schedules and displays them
+    // EFFECTS: calculates the best schedules and displays them, with the number of all the possible schedules counted
+    //          by class (see FeasibleSet)
     private void calculateAndPrintSchedules(Schedule schedule) {
         int numOfSchedule = selectNumOfDisplayedSchedule();
-        List<Schedule> result = Scheduler.scheduleAndCalculateScore(schedule);
+        List<Schedule> result = Scheduler.scheduleAndCalculateScore(schedule, Math.max(1, numOfSchedule));
         int i = 0;
         List<Schedule> topResults = new ArrayList<>();
         while (i < Math.min(numOfSchedule, result.size())) {
@@ -364,7 +363,7 @@ public class SchedulerConsoleApp extends SchedulerApp {
             topResults.add(result.get(i));
             i++;
         }
-        System.out.println("Number of possible schedules: " + result.size());
+        System.out.println("Number of possible schedules: " + feasibleSetCache.get(schedule).getNumOfSchedules());
         displaySaveMenu(topResults);
     }
 
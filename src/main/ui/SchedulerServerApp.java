@@ -0,0 +1,281 @@
+package ui;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import model.Course;
+import model.Schedule;
+import model.Section;
+import model.exceptions.SchedulingFailedException;
+import model.util.SchedulingHandle;
+import model.util.SchedulingRequest;
+import model.util.SchedulingService;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import persistence.JsonReaderSchedulingRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// A class that represents the course scheduler as a headless HTTP service on localhost, to be run behind a web
+// portal. Every request and response body is JSON:
+//     POST   /schedules        schedules a request (see JsonReaderSchedulingRequest) and returns its best schedules
+//     GET    /courses          returns every course of the catalog
+//     GET    /courses/<id>     returns a course with its root sections in the term given by ?term= (1 by default)
+//     GET    /saved            returns the saved schedules
+//     GET    /saved/<name>     returns the saved schedule with the given name
+//     POST   /saved            saves a schedule in the format of Schedule.toJsonObject
+//     DELETE /saved/<name>     deletes the saved schedule with the given name
+// The searches run on a SchedulingService with one thread per processor, so a burst of clients cannot use more CPU
+// than that, and identical requests that are in flight at the same time share one search. The exchanges are handled
+// on a fixed pool of EXCHANGES_PER_SEARCH_THREAD platform threads per search thread, and the exchanges beyond that
+// wait in line. The project targets JDK 11, which has no virtual threads, so a thread per exchange would let a burst
+// of clients make any number of threads; since an exchange thread mostly waits for its search, a few of them per
+// search thread are enough to keep the search pool busy while the threads of the server stay bounded.
+//
+// Every search is cut off after at most MAX_TIME_LIMIT milliseconds and MAX_NODE_BUDGET nodes, and returns at most
+// MAX_SCHEDULES schedules, whatever the client asks for, so that no request can hold a thread for long. A request
+// with a beam width runs an approximate search (see SchedulingHandle) whose first round keeps at most MAX_BEAM_WIDTH
+// partial schedules per level. The time limit starts when a search starts running, not when it is submitted, so a
+// request may also wait in line for the search pool first. That wait is still bounded: while an exchange runs, at most
+// EXCHANGES_PER_SEARCH_THREAD searches per search thread are in flight, so once its exchange has started a request is
+// answered within about EXCHANGES_PER_SEARCH_THREAD + 1 times MAX_TIME_LIMIT. Exchanges that wait for a thread of
+// their own are not bounded that way.
+public class SchedulerServerApp extends SchedulerApp {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int EXCHANGES_PER_SEARCH_THREAD = 4;
+    public static final int MAX_SCHEDULES = 100;
+    public static final long MAX_TIME_LIMIT = 5000;
+    public static final long MAX_NODE_BUDGET = 10000000L;
+    public static final int MAX_BEAM_WIDTH = 1024;
+
+    private int port;                               // the port the server listens on, 0 for any free port
+    private SchedulingService service;              // runs the searches of the scheduling requests
+    private JsonReaderSchedulingRequest reader;     // reads requests and schedules from request bodies
+    private HttpServer server;                      // the running server, null if not started
+    private int searchThreads;                      // the number of threads the searches run on
+    private ExecutorService exchanges;              // handles the exchanges, a few per search thread at a time
+
+    // EFFECTS: constructs a server app that listens on the given port of localhost once it is run
+    public SchedulerServerApp(int port) {
+        this.port = port;
+        this.searchThreads = Runtime.getRuntime().availableProcessors();
+        this.service = new SchedulingService(searchThreads);
+        this.reader = new JsonReaderSchedulingRequest(data);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts the server in the background and returns
+    @Override
+    public void run() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.createContext("/schedules", this::handleSchedules);
+            server.createContext("/courses", this::handleCourses);
+            server.createContext("/saved", this::handleSaved);
+            exchanges = Executors.newFixedThreadPool(EXCHANGES_PER_SEARCH_THREAD * searchThreads);
+            server.setExecutor(exchanges);
+            server.start();
+            System.out.println("Listening on http://localhost:" + getPort());
+        } catch (IOException e) {
+            System.out.println("Cannot start the server on port " + port + ".");
+        }
+    }
+
+    // REQUIRES: the server is running
+    // EFFECTS: returns the port the server listens on
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops the server and cancels the searches in flight
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            exchanges.shutdown();
+        }
+        service.shutdown();
+    }
+
+    // EFFECTS: schedules the request in the body of a POST, and responds with its best schedules. Every failure is
+    //          answered with an error, so that the client is never left without a response.
+    private void handleSchedules(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            send(exchange, 405, error("Use POST"));
+            return;
+        }
+        try {
+            SchedulingHandle handle = service.submit(limit(reader.read(readBody(exchange))));
+            JSONObject result = new JSONObject();
+            result.put("schedules", toJson(handle.getSchedules()));
+            result.put("status", handle.getStatus().toString());
+            result.put("millis", handle.getElapsedMillis());
+            send(exchange, 200, result);
+        } catch (JSONException e) {
+            send(exchange, 400, error(e.getMessage()));
+        } catch (SchedulingFailedException e) {
+            send(exchange, 500, error("Scheduling failed: " + e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, error("Interrupted"));
+        } catch (RuntimeException e) {
+            send(exchange, 500, error("Cannot schedule the request: " + e));
+        }
+    }
+
+    // EFFECTS: returns the request with its number of schedules, time limit and node budget brought within
+    //          MAX_SCHEDULES, MAX_TIME_LIMIT and MAX_NODE_BUDGET, where a request that asks for no limit gets the
+    //          maximum, and its beam width brought within MAX_BEAM_WIDTH, where 0 stays an exact search
+    private static SchedulingRequest limit(SchedulingRequest request) {
+        int numOfSchedules = request.getNumOfSchedules();
+        SchedulingRequest limited = new SchedulingRequest(request.getSchedule(),
+                numOfSchedules > 0 && numOfSchedules < MAX_SCHEDULES ? numOfSchedules : MAX_SCHEDULES);
+        limited.setTimeLimit(limit(request.getTimeLimit(), MAX_TIME_LIMIT));
+        limited.setNodeBudget(limit(request.getNodeBudget(), MAX_NODE_BUDGET));
+        limited.setBeamWidth(Math.min(request.getBeamWidth(), MAX_BEAM_WIDTH));
+        return limited;
+    }
+
+    // EFFECTS: returns the value if it is within 1 and max, or else max
+    private static long limit(long value, long max) {
+        return value > 0 && value < max ? value : max;
+    }
+
+    // EFFECTS: responds to a GET with every course of the catalog, or with one course and its root sections
+    private void handleCourses(HttpExchange exchange) throws IOException {
+        String courseID = pathName(exchange, "/courses");
+        if (!exchange.getRequestMethod().equals("GET")) {
+            send(exchange, 405, error("Use GET"));
+        } else if (courseID.isEmpty()) {
+            JSONArray courses = new JSONArray();
+            for (Course course : data.getAllCourse()) {
+                courses.put(course.toJsonObject());
+            }
+            send(exchange, 200, courses);
+        } else if (data.getCourseByID(courseID) == null) {
+            send(exchange, 404, error("Unknown course " + courseID));
+        } else {
+            JSONObject course = data.getCourseByID(courseID).toJsonObject();
+            JSONArray sections = new JSONArray();
+            for (Section section : data.getRootSections(courseID, termOf(exchange))) {
+                sections.put(section.toJsonObject());
+            }
+            course.put("sections", sections);
+            send(exchange, 200, course);
+        }
+    }
+
+    // EFFECTS: responds to a GET, POST or DELETE of the saved schedules
+    private void handleSaved(HttpExchange exchange) throws IOException {
+        String name = pathName(exchange, "/saved");
+        switch (exchange.getRequestMethod()) {
+            case "GET":
+                getSaved(exchange, name);
+                break;
+            case "POST":
+                postSaved(exchange);
+                break;
+            case "DELETE":
+                deleteSaved(exchange, name);
+                break;
+            default:
+                send(exchange, 405, error("Use GET, POST or DELETE"));
+        }
+    }
+
+    // EFFECTS: responds with every saved schedule if name is empty, or else with the saved schedule with that name
+    private void getSaved(HttpExchange exchange, String name) throws IOException {
+        synchronized (savedSchedules) {
+            if (name.isEmpty()) {
+                send(exchange, 200, toJson(savedSchedules));
+            } else if (getSavedScheduleByName(name) == null) {
+                send(exchange, 404, error("No saved schedule named " + name));
+            } else {
+                send(exchange, 200, getSavedScheduleByName(name).toJsonObject());
+            }
+        }
+    }
+
+    // MODIFIES: this, file
+    // EFFECTS: saves the schedule in the body, unless a schedule with its name is already saved
+    private void postSaved(HttpExchange exchange) throws IOException {
+        try {
+            Schedule schedule = reader.readSchedule(readBody(exchange));
+            synchronized (savedSchedules) {
+                if (getSavedScheduleByName(schedule.getName()) != null) {
+                    send(exchange, 409, error("A schedule named " + schedule.getName() + " is already saved"));
+                    return;
+                }
+                saveSchedule(schedule);
+            }
+            send(exchange, 201, schedule.toJsonObject());
+        } catch (JSONException e) {
+            send(exchange, 400, error(e.getMessage()));
+        }
+    }
+
+    // MODIFIES: this, file
+    // EFFECTS: deletes the saved schedule with the given name
+    private void deleteSaved(HttpExchange exchange, String name) throws IOException {
+        synchronized (savedSchedules) {
+            Schedule schedule = getSavedScheduleByName(name);
+            if (schedule == null) {
+                send(exchange, 404, error("No saved schedule named " + name));
+                return;
+            }
+            deleteSchedule(schedule);
+        }
+        send(exchange, 204, null);
+    }
+
+    // EFFECTS: returns the schedules with their scores as a JSON array
+    private static JSONArray toJson(List<Schedule> schedules) {
+        JSONArray json = new JSONArray();
+        for (Schedule schedule : schedules) {
+            json.put(schedule.toJsonObject().put("score", schedule.getScore()));
+        }
+        return json;
+    }
+
+    // EFFECTS: returns the part of the request path after the given context and its slash, "" if there is none
+    private static String pathName(HttpExchange exchange, String context) {
+        String path = exchange.getRequestURI().getPath().substring(context.length());
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    // EFFECTS: returns the term given by the query of the request, 1 if none is given
+    private static int termOf(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null && query.matches("term=[12]")) {
+            return Integer.parseInt(query.substring("term=".length()));
+        }
+        return 1;
+    }
+
+    // EFFECTS: returns the body of the request as a string
+    private static String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    // EFFECTS: returns a JSON object with the given error message
+    private static JSONObject error(String message) {
+        return new JSONObject().put("error", message);
+    }
+
+    // EFFECTS: sends a response with the given status and JSON body (none if body is null)
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -18,8 +18,8 @@ public class UiSelectorMenu {
         while (true) {
             selection = input.nextLine();
             try {
-                if (Integer.parseInt(selection) > 2 || Integer.parseInt(selection) < 0) {
-                    System.out.println("Please enter 0, 1, or 2.");
+                if (Integer.parseInt(selection) > 3 || Integer.parseInt(selection) < 0) {
+                    System.out.println("Please enter 0, 1, 2, or 3.");
                 } else {
                     break;
                 }
@@ -36,6 +36,7 @@ public class UiSelectorMenu {
         System.out.println("0: Quit");
         System.out.println("1: Console UI");
         System.out.println("2: GUI");
+        System.out.println("3: HTTP server");
     }
 
     // EFFECTS: prompts user to choose a UI, and then runs the chosen UI
@@ -52,6 +53,9 @@ public class UiSelectorMenu {
             case 2:
                 app = new SchedulerGuiApp();
                 break;
+            case 3:
+                app = new SchedulerServerApp(SchedulerServerApp.DEFAULT_PORT);
+                break;
         }
         app.run();
     }
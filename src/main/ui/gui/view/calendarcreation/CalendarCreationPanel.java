@@ -3,8 +3,9 @@ package ui.gui.view.calendarcreation;
 import model.Course;
 import model.Schedule;
 import model.Weight;
+import model.util.FeasibleSet;
 import model.util.HelperUtil;
-import model.util.Scheduler;
+import model.util.ScheduleClass;
 import ui.SchedulerApp;
 import ui.gui.calendar.CalendarPanel;
 
@@ -35,7 +36,8 @@ public class CalendarCreationPanel extends JPanel implements ActionListener, Cha
     private JRadioButton rbt2 = new JRadioButton("Term 2");
     private JSlider balanceSlider = new JSlider(JSlider.HORIZONTAL, 0, 100, 1);
     private JSlider compactSlider = new JSlider(JSlider.HORIZONTAL, 0, 100, 1);
-    private List<Schedule> topSchedules = new ArrayList<>();
+    private List<ScheduleClass> topScheduleClasses = new ArrayList<>();
+    private int numOfSchedules = 0;
     private int selectedScheduleIdx = -1;
     private JPanel selectedSchedulePane = new JPanel();
     private JButton btnLeft = new JButton(" << Previous");
@@ -449,7 +451,7 @@ public class CalendarCreationPanel extends JPanel implements ActionListener, Cha
                     JOptionPane.ERROR_MESSAGE);
             return;
         }
-        Schedule schedule = topSchedules.get(selectedScheduleIdx);
+        Schedule schedule = getSelectedSchedule().makeCopy();
         schedule.setName(name);
         app.saveSchedule(schedule);
 
@@ -491,22 +493,23 @@ public class CalendarCreationPanel extends JPanel implements ActionListener, Cha
         }
 
         selectedScheduleIdx = -1;
-        topSchedules = Scheduler.scheduleAndCalculateScore(s);
+        FeasibleSet feasibleSet = app.getFeasibleSetCache().get(s);
+        topScheduleClasses = feasibleSet.rank(weight);
+        numOfSchedules = (int) Math.min(feasibleSet.getNumOfSchedules(), Integer.MAX_VALUE);
         showSelectedCalender();
         setCursor(null);
-
     }
 
     // EFFECT: switches to and renders selected calendar
     private void showSelectedCalender() {
-        if (topSchedules.size() > 0 && selectedScheduleIdx == -1) {
+        if (numOfSchedules > 0 && selectedScheduleIdx == -1) {
             selectedScheduleIdx = 0;
         }
         selectedSchedulePane.removeAll();
         selectedSchedulePane.revalidate();
 
-        btnLeft.setEnabled(topSchedules.size() > 0 && selectedScheduleIdx > 0);
-        btnRight.setEnabled(topSchedules.size() > 0 && selectedScheduleIdx < topSchedules.size() - 1);
+        btnLeft.setEnabled(numOfSchedules > 0 && selectedScheduleIdx > 0);
+        btnRight.setEnabled(numOfSchedules > 0 && selectedScheduleIdx < numOfSchedules - 1);
 
         renderCalendar();
 
@@ -516,11 +519,11 @@ public class CalendarCreationPanel extends JPanel implements ActionListener, Cha
     private void renderCalendar() {
         Schedule schedule = null;
 
-        if (topSchedules.size() > 0) {
+        if (numOfSchedules > 0) {
             btnSaveAs.setText(String.format("Save Schedule %d of %d as...", selectedScheduleIdx + 1,
-                    topSchedules.size()));
+                    numOfSchedules));
             btnSaveAs.setVisible(true);
-            schedule = topSchedules.get(selectedScheduleIdx);
+            schedule = getSelectedSchedule();
         } else {
             btnSaveAs.setVisible(false);
         }
@@ -535,6 +538,19 @@ public class CalendarCreationPanel extends JPanel implements ActionListener, Cha
         selectedSchedulePane.revalidate();
     }
 
+    // REQUIRES: 0 <= selectedScheduleIdx < numOfSchedules
+    // EFFECT: returns the selected schedule, expanding it from its schedule class
+    private Schedule getSelectedSchedule() {
+        long index = selectedScheduleIdx;
+        for (ScheduleClass scheduleClass : topScheduleClasses) {
+            if (index < scheduleClass.size()) {
+                return scheduleClass.expand(index);
+            }
+            index -= scheduleClass.size();
+        }
+        return null;
+    }
+
     // MODIFIES: this
     // EFFECT: saves the weights
     private void saveWeights() {
@@ -1,5 +1,6 @@
 package model;
 
+import model.util.CourseData;
 import model.util.CourseRealData;
 import model.util.CourseTestData;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,6 +105,61 @@ class ScheduleTest {
     }
 
 
+    // EFFECTS: Test that conflicts are still found after sectionIDs is changed without tryAddSection
+    @Test
+    void tryAddSectionAfterChangesTest() {
+        Schedule schedule = new Schedule("testSchedule", 1, new Weight(1, 1, "8:00", "16:00"),
+                new CourseTestData());
+        Section lab = schedule.getCourseData().getSection("CPSC 121 L1B");
+        assertTrue(schedule.tryAddSection(schedule.getCourseData().getSection("CPSC 121 101")));
+        assertFalse(schedule.tryAddSection(lab));
+        schedule.getSectionIDs().clear();
+        assertTrue(schedule.tryAddSection(lab));
+        schedule.addSectionID("CPSC 121 T1B");
+        assertFalse(schedule.tryAddSection(schedule.getCourseData().getSection("CPSC 121 102")));
+        Schedule copy = schedule.makeCopy();
+        assertFalse(copy.tryAddSection(schedule.getCourseData().getSection("CPSC 121 101")));
+        assertTrue(copy.tryAddSection(schedule.getCourseData().getSection("CPSC 110 102")));
+
+        Schedule replaced = new Schedule("testSchedule", 1, new Weight(1, 1, "8:00", "16:00"), new CourseTestData());
+        assertTrue(replaced.tryAddSection(replaced.getCourseData().getSection("CPSC 121 101")));
+        assertTrue(replaced.tryAddSection(replaced.getCourseData().getSection("CPSC 110 102")));
+        replaced.getSectionIDs().remove(1);
+        replaced.addSectionID("CPSC 121 102");
+        assertFalse(replaced.tryAddSection(replaced.getCourseData().getSection("CPSC 121 L1C")));
+    }
+
+    // EFFECTS: Test that sections added by their handles are the same as sections added by their IDs, also after
+    //          the section IDs were changed without going through the schedule
+    @Test
+    void addSectionTest() {
+        CourseData data = new CourseTestData();
+        Schedule byHandle = new Schedule("byHandle", 2, new Weight(1, 2, "8:00", "16:00"), data);
+        byHandle.addSection(data.getOrdinal("weightTest1"));
+        byHandle.addSection(data.getOrdinal("weightTest2"));
+        assertEquals(Arrays.asList("weightTest1", "weightTest2"), byHandle.getSectionIDs());
+        byHandle.calculateScore();
+        assertEquals(300, byHandle.getScore());
+        assertFalse(byHandle.tryAddSection(data.getSection("weightTest1")));
+
+        byHandle.getSectionIDs().remove(1);
+        assertTrue(byHandle.tryAddSection(data.getSection("weightTest2")));
+        byHandle.getSectionIDs().remove(0);
+        byHandle.addSection(data.getOrdinal("weightTest1"));
+        assertEquals(0, byHandle.getAllAntirequisits().size());
+        byHandle.calculateScore();
+        assertEquals(300, byHandle.getScore());
+
+        Schedule replaced = new Schedule("replaced", 1, new Weight(1, 1, "8:00", "16:00"), data);
+        replaced.addSection(data.getOrdinal("CPSC 121 101"));
+        replaced.addSection(data.getOrdinal("CPSC 110 102"));
+        replaced.getSectionIDs().remove(1);
+        replaced.addSectionID("CPSC 121 102");
+        List<List<String>> expected = new ArrayList<>(data.getSection("CPSC 121 101").getAntiRequisiteIDs());
+        expected.addAll(data.getSection("CPSC 121 102").getAntiRequisiteIDs());
+        assertEquals(expected, replaced.getAllAntirequisits());
+    }
+
     @Test
     void calculateScoreNoOvertimeTest() {
         Weight weight1 = new Weight(1,2, "8:00", "16:00");
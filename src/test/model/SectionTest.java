@@ -69,6 +69,30 @@ class SectionTest {
         assertTrue(s1.hasConflictWith(s2));
     }
 
+    // EFFECTS: Test that the occupancy is only made for sections on slot boundaries, and is updated by the setters
+    @Test
+    void OccupancyTest() {
+        Section s1 = new Section("section1", "course1", SectionType.LECTURE, "9:00", "10:30",
+                Arrays.asList("Mon", "Wed"), 1, new ArrayList<>());
+        assertNotNull(s1.getOccupancy());
+        Section s2 = new Section("section2", "course2", SectionType.LECTURE, "10:30", "11:00",
+                Arrays.asList("Mon"), 1, new ArrayList<>());
+        assertFalse(s1.hasConflictWith(s2));
+        s2.setStartTime("10:25");
+        assertTrue(s1.hasConflictWith(s2));
+        s2.setWeekDays(Arrays.asList("Tue"));
+        assertFalse(s1.hasConflictWith(s2));
+
+        s2.setStartTime("10:29");
+        assertNull(s2.getOccupancy());
+        s2.setWeekDays(Arrays.asList("Wed"));
+        assertTrue(s1.hasConflictWith(s2));
+
+        s2.setStartTime("10:30");
+        s2.setWeekDays(Arrays.asList("Mon, Wed"));
+        assertNull(s2.getOccupancy());
+    }
+
     // EFFECTS: Test for the section's getters and setters
     @Test
     void GetterSetterTest(){
@@ -118,4 +118,12 @@ class WeightTest {
         assertEquals(3, json.get("preferredStartTime"));
         assertEquals(4, json.get("preferredEndTime"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getFingerprintTest() {
+        assertEquals(new Weight(1, 2, 3, 4).getFingerprint(), new Weight(1, 2, 3, 4).getFingerprint());
+        assertNotEquals(new Weight(1, 2, 3, 4).getFingerprint(), new Weight(2, 1, 3, 4).getFingerprint());
+        assertNotEquals(new Weight(1, 2, 3, 4).getFingerprint(), new Weight(1, 2, 4, 3).getFingerprint());
+        assertNotEquals(new Weight(12, 3, 4, 5).getFingerprint(), new Weight(1, 23, 4, 5).getFingerprint());
+    }
+}
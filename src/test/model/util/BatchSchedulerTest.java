@@ -0,0 +1,109 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for BatchScheduler
+class BatchSchedulerTest {
+    private static final String WEIGHT = "\"weight\": {\"compactWeight\": 1, \"balanceWeight\": 1, "
+            + "\"preferredStartTime\": 540, \"preferredEndTime\": 900}";
+
+    private CourseRealData data;
+
+    @BeforeEach
+    void runBefore() {
+        data = new CourseRealData("./data/courses.json", "./data/sections.json");
+    }
+
+    // EFFECTS: runs a batch of the given lines on the given number of threads, and returns the result lines
+    private String[] runBatch(int threads, String... lines) throws IOException {
+        StringWriter output = new StringWriter();
+        int numOfLines = new BatchScheduler(data, threads).run(
+                new BufferedReader(new StringReader(String.join("\n", lines))), new PrintWriter(output));
+        assertEquals(lines.length, numOfLines);
+        String result = output.toString().trim();
+        return result.isEmpty() ? new String[0] : result.split("\\R");
+    }
+
+    // EFFECTS: returns a request line with the given id for the given courses in term 1
+    private String request(String id, String... courseIDs) {
+        return "{\"id\": \"" + id + "\", \"term\": 1, " + WEIGHT + ", \"numOfSchedules\": 3, \"courses\": "
+                + new JSONArray(Arrays.asList(courseIDs)) + "}";
+    }
+
+    // EFFECTS: Test that the results are written in input order, and are the same as the top k search of each request
+    @Test
+    void runTest() throws IOException {
+        String[] courses = {"CPSC 110", "CPSC 121", "MATH 180", "PHYS 117", "ENGL 110", "CPSC 210"};
+        String[] lines = new String[courses.length];
+        for (int i = 0; i < courses.length; i++) {
+            lines[i] = request("student " + i, courses[i], courses[(i + 1) % courses.length]);
+        }
+        String[] results = runBatch(3, lines);
+        assertEquals(courses.length, results.length);
+        for (int i = 0; i < courses.length; i++) {
+            JSONObject result = new JSONObject(results[i]);
+            assertEquals(i + 1, result.getInt("line"));
+            assertEquals("student " + i, result.getString("id"));
+            assertEquals("COMPLETE", result.getString("status"));
+            assertTrue(result.getLong("millis") >= 0);
+            Schedule schedule = new Schedule("", 1, new Weight(1, 1, 540, 900), data);
+            schedule.addCoursesByIDs(Arrays.asList(courses[i], courses[(i + 1) % courses.length]));
+            List<Schedule> expected = Scheduler.scheduleAndCalculateScore(schedule, 3);
+            JSONArray schedules = result.getJSONArray("schedules");
+            assertEquals(expected.size(), schedules.length());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j).getSectionIDs().toString(),
+                        schedules.getJSONObject(j).getJSONArray("sectionIDs").toList().toString());
+            }
+        }
+    }
+
+    // EFFECTS: Test that a line that is not a valid request gets an error, and that blank lines are skipped but still
+    //          counted
+    @Test
+    void invalidLinesTest() throws IOException {
+        String[] results = runBatch(2, "not json", "", request("a", "CPSC 999"), request("b", "CPSC 110"));
+        assertEquals(3, results.length);
+        assertEquals(1, new JSONObject(results[0]).getInt("line"));
+        assertTrue(new JSONObject(results[0]).has("error"));
+        assertEquals(3, new JSONObject(results[1]).getInt("line"));
+        assertEquals("Unknown course CPSC 999", new JSONObject(results[1]).getString("error"));
+        assertEquals(4, new JSONObject(results[2]).getInt("line"));
+        assertEquals("b", new JSONObject(results[2]).getString("id"));
+        assertFalse(new JSONObject(results[2]).has("error"));
+    }
+
+    // EFFECTS: Test that a batch larger than the number of requests in flight is written completely, in order
+    @Test
+    void manyRequestsTest() throws IOException {
+        String[] lines = new String[20];
+        Arrays.fill(lines, request("same", "MATH 180"));
+        String[] results = runBatch(1, lines);
+        assertEquals(20, results.length);
+        for (int i = 0; i < results.length; i++) {
+            assertEquals(i + 1, new JSONObject(results[i]).getInt("line"));
+        }
+    }
+
+    // EFFECTS: Test that an empty batch writes nothing
+    @Test
+    void emptyTest() throws IOException {
+        assertEquals(0, new BatchScheduler(data, 1).run(new BufferedReader(new StringReader("")),
+                new PrintWriter(new StringWriter())));
+    }
+}
@@ -0,0 +1,75 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for BeamSearch
+class BeamSearchTest {
+
+    // EFFECTS: returns a starting schedule with the given courses of the real course data in term 1
+    private Schedule makeSchedule(String... courseIDs) {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList(courseIDs));
+        return schedule;
+    }
+
+    // EFFECTS: returns the section IDs of each of the schedules
+    private Set<List<String>> sectionIDs(List<Schedule> schedules) {
+        Set<List<String>> result = new HashSet<>();
+        for (Schedule schedule : schedules) {
+            result.add(schedule.getSectionIDs());
+        }
+        return result;
+    }
+
+    // EFFECTS: Test that a beam wide enough to drop nothing finds exactly the schedules of the exact search
+    @Test
+    void exactRoundTest() {
+        Schedule schedule = makeSchedule("CPSC 110", "MATH 180");
+        BeamSearch beam = new BeamSearch(schedule);
+        List<Schedule> result = beam.run(Integer.MAX_VALUE);
+        assertEquals(Float.NEGATIVE_INFINITY, beam.getDroppedBound());
+        assertEquals(sectionIDs(new SearchEngine(schedule).toList()), sectionIDs(result));
+        assertTrue(beam.getNodes() > 0);
+    }
+
+    // EFFECTS: Test that a narrow beam keeps at most its width of schedules, with real scores, and that the dropped
+    //          bound is never below the best score there is
+    @Test
+    void narrowRoundTest() {
+        Schedule schedule = makeSchedule("CPSC 110", "CPSC 121", "MATH 180");
+        List<Schedule> exact = Scheduler.scheduleAndCalculateScore(schedule, 1);
+        BeamSearch beam = new BeamSearch(schedule);
+        List<Schedule> result = beam.run(2);
+        assertFalse(result.isEmpty());
+        assertTrue(result.size() <= 2);
+        float best = Float.NEGATIVE_INFINITY;
+        for (Schedule s : result) {
+            Schedule copy = s.makeCopy();
+            copy.calculateScore();
+            assertEquals(copy.getScore(), s.getScore());
+            best = Math.max(best, s.getScore());
+        }
+        assertTrue(best <= exact.get(0).getScore());
+        assertTrue(Math.max(best, beam.getDroppedBound()) >= exact.get(0).getScore());
+    }
+
+    // EFFECTS: Test that a template with root sections is respected
+    @Test
+    void templateRootsTest() {
+        Schedule schedule = makeSchedule("CPSC 110", "MATH 180");
+        schedule.addSectionID("CPSC 110 101");
+        for (Schedule s : new BeamSearch(schedule).run(3)) {
+            assertEquals("CPSC 110 101", s.getSectionIDs().get(0));
+        }
+    }
+}
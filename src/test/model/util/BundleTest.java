@@ -0,0 +1,118 @@
+package model.util;
+
+import model.Section;
+import model.SectionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for Bundle
+class BundleTest {
+    private CourseData data;
+
+    // EFFECTS: Makes the test data before each test
+    @BeforeEach
+    void setup() {
+        data = new CourseTestData();
+    }
+
+    // EFFECTS: Test that a course is expanded into a root section with one section of each antirequisite, leaving
+    //          out the sections that conflict with the rest of the bundle
+    @Test
+    void expandTest() {
+        List<Bundle> bundles = Bundle.expand(data, "CPSC 121", 1);
+        assertFalse(bundles.isEmpty());
+        for (Bundle bundle : bundles) {
+            List<Section> sections = bundle.getSections();
+            assertEquals(bundle.getRoot(), sections.get(0));
+            assertEquals(bundle.getRoot().getAntiRequisiteIDs().size() + 1, sections.size());
+            for (int i = 0; i < sections.size(); i++) {
+                for (int j = i + 1; j < sections.size(); j++) {
+                    assertFalse(sections.get(i).hasConflictWith(sections.get(j)));
+                }
+            }
+        }
+        for (Bundle bundle : bundles) {
+            if (bundle.getRoot().getSectionID().equals("CPSC 121 101")) {
+                assertNotEquals("CPSC 121 L1B", bundle.getSections().get(1).getSectionID());
+            }
+        }
+        assertTrue(Bundle.expand(data, "CPSC 121", 5).isEmpty());
+    }
+
+    // EFFECTS: Test that the occupancy of a bundle is the time slots of all its sections
+    @Test
+    void getOccupancyTest() {
+        Bundle bundle = Bundle.expand(data, "CPSC 110", 1).get(0);
+        long[] expected = TimeMask.empty();
+        for (Section section : bundle.getSections()) {
+            TimeMask.addTo(expected, section.getOccupancy());
+        }
+        assertArrayEquals(expected, bundle.getOccupancy());
+    }
+
+    // EFFECTS: Test that a bundle expanded from course data has the handles of its sections in it, and one made from
+    //          sections does not
+    @Test
+    void getHandlesTest() {
+        for (Bundle bundle : Bundle.expand(data, "CPSC 121", 1)) {
+            assertEquals(bundle.getSections().size(), bundle.getHandles().length);
+            for (int i = 0; i < bundle.getHandles().length; i++) {
+                assertEquals(bundle.getSections().get(i), data.getSection(bundle.getHandles()[i]));
+            }
+        }
+        Bundle bundle = Bundle.expand(data, "CPSC 121", 1).get(0);
+        assertNull(new Bundle(bundle.getSections(), data.getConflictMatrix(1)).getHandles());
+        assertSame(bundle.getHandles(), Bundle.classes(Arrays.asList(bundle)).get(0).getHandles());
+    }
+
+    // EFFECTS: Test that bundles with sections at the same times are grouped into one class, in order
+    @Test
+    void classesTest() {
+        Section first = new Section("section1", "course1", SectionType.LECTURE, "9:00", "10:00",
+                Arrays.asList("Mon", "Wed"), 1, new ArrayList<>());
+        Section same = new Section("section2", "course1", SectionType.LECTURE, "9:00", "10:00",
+                Arrays.asList("Mon", "Wed"), 1, new ArrayList<>());
+        Section other = new Section("section3", "course1", SectionType.LECTURE, "9:00", "10:00",
+                Arrays.asList("Tue", "Thu"), 1, new ArrayList<>());
+        ConflictMatrix matrix = new ConflictMatrix(Arrays.asList(first, same, other));
+        List<Bundle> bundles = Arrays.asList(new Bundle(Collections.singletonList(first), matrix, 0),
+                new Bundle(Collections.singletonList(other), matrix, 1),
+                new Bundle(Collections.singletonList(same), matrix, 2));
+        assertEquals(Collections.singletonList(bundles.get(0)), bundles.get(0).getEquivalents());
+        List<Bundle> classes = Bundle.classes(bundles);
+        assertEquals(2, classes.size());
+        assertEquals(first, classes.get(0).getRoot());
+        assertEquals(0, classes.get(0).getIndex());
+        assertEquals(Arrays.asList(bundles.get(0), bundles.get(2)), classes.get(0).getEquivalents());
+        assertEquals(Collections.singletonList(bundles.get(1)), classes.get(1).getEquivalents());
+        assertTrue(classes.get(0).hasConflictWith(bundles.get(2)));
+        assertEquals(Bundle.expand(data, "CPSC 121", 1).size(), Bundle.classes(data.getBundles("CPSC 121", 1)).size());
+    }
+
+    // EFFECTS: Test conflicts between bundles, with and without a conflict matrix or time masks
+    @Test
+    void hasConflictWithTest() {
+        Section lecture = new Section("section1", "course1", SectionType.LECTURE, "9:00", "10:30",
+                Arrays.asList("Mon", "Wed"), 1, new ArrayList<>());
+        Section lab = new Section("section2", "course2", SectionType.LABORATORY, "10:00", "11:00",
+                Arrays.asList("Wed"), 1, new ArrayList<>());
+        Section irregular = new Section("section3", "course3", SectionType.LECTURE, "10:37", "10:42",
+                Arrays.asList("Wed"), 1, new ArrayList<>());
+        ConflictMatrix matrix = new ConflictMatrix(Arrays.asList(lecture, lab));
+        ConflictMatrix empty = new ConflictMatrix(new ArrayList<>());
+        Bundle inMatrix = new Bundle(Collections.singletonList(lecture), matrix);
+        assertTrue(inMatrix.hasConflictWith(new Bundle(Collections.singletonList(lab), matrix)));
+        assertTrue(inMatrix.hasConflictWith(new Bundle(Collections.singletonList(lab), empty)));
+        Bundle unmasked = new Bundle(Collections.singletonList(irregular), empty);
+        assertNull(unmasked.getOccupancy());
+        assertFalse(unmasked.hasConflictWith(inMatrix));
+        assertTrue(unmasked.hasConflictWith(new Bundle(Collections.singletonList(lab), empty)));
+    }
+}
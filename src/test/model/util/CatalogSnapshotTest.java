@@ -0,0 +1,151 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+import model.Weight;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import persistence.CatalogSnapshotWriter;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for CatalogSnapshot
+class CatalogSnapshotTest {
+    CourseRealData real;
+    Path file;
+    CatalogSnapshot snapshot;
+
+    // EFFECTS: Makes the real data and a snapshot of the same files before every test
+    @BeforeEach
+    void setup() throws IOException {
+        real = new CourseRealData("./data/courses.json", "./data/sections.json");
+        file = Files.createTempFile("catalog", ".snapshot");
+        new CatalogSnapshotWriter(file.toString()).compile("./data/courses.json", "./data/sections.json");
+        snapshot = new CatalogSnapshot(file.toString());
+    }
+
+    // EFFECTS: Deletes the snapshot after every test
+    @AfterEach
+    void teardown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    // EFFECTS: Test that every section of the snapshot has the same fields as the section of the real data
+    @Test
+    void getSectionTest() {
+        assertTrue(snapshot.size() > 0);
+        for (int ordinal = 0; ordinal < snapshot.size(); ordinal++) {
+            Section section = snapshot.getSection(ordinal);
+            Section expected = real.getSection(section.getSectionID());
+            assertEquals(ordinal, snapshot.getOrdinal(section.getSectionID()));
+            assertSame(section, snapshot.getSection(section.getSectionID()));
+            assertEquals(expected.getCourseID(), section.getCourseID());
+            assertEquals(expected.getSectionType(), section.getSectionType());
+            assertEquals(expected.getStartTime(), section.getStartTime());
+            assertEquals(expected.getEndTime(), section.getEndTime());
+            assertEquals(new HashSet<>(expected.getWeekDays()), new HashSet<>(section.getWeekDays()));
+            assertEquals(expected.getTerm(), section.getTerm());
+            assertEquals(expected.getAntiRequisiteIDs(), section.getAntiRequisiteIDs());
+        }
+        assertEquals(-1, snapshot.getOrdinal("NOPE 100 101"));
+        assertNull(snapshot.getSection("NOPE 100 101"));
+    }
+
+    // EFFECTS: Test that the courses, and the lectures and sections of every course, are the same as in the real data
+    @Test
+    void getRootSectionsTest() {
+        assertEquals(real.getAllCourseIDs(), snapshot.getAllCourseIDs());
+        for (String courseID : snapshot.getAllCourseIDs()) {
+            assertEquals(real.getCourseByID(courseID).getDescription(),
+                    snapshot.getCourseByID(courseID).getDescription());
+            for (int term = 1; term <= 2; term++) {
+                assertEquals(sectionIDs(real.getRootSections(courseID, term)),
+                        sectionIDs(snapshot.getRootSections(courseID, term)));
+            }
+            assertEquals(sectionIDs(real.getSectionsOfCourse(courseID)),
+                    sectionIDs(snapshot.getSectionsOfCourse(courseID)));
+        }
+        assertNull(snapshot.getCourseByID("NOPE 100"));
+        assertTrue(snapshot.getRootSections("NOPE 100", 1).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getRootSections("CPSC 110", 1).clear());
+    }
+
+    // EFFECTS: Test that the conflict matrix of the snapshot is the same as the one made from the sections
+    @Test
+    void getConflictMatrixTest() {
+        for (int term = 1; term <= 2; term++) {
+            ConflictMatrix expected = real.getConflictMatrix(term);
+            ConflictMatrix matrix = snapshot.getConflictMatrix(term);
+            assertEquals(expected.size(), matrix.size());
+            for (int a = 0; a < snapshot.size(); a++) {
+                String sectionID = snapshot.getSection(a).getSectionID();
+                assertEquals(expected.getOrdinal(sectionID), matrix.getOrdinal(sectionID));
+                if (matrix.getOrdinal(sectionID) >= 0) {
+                    assertArrayEquals(expected.conflictRow(expected.getOrdinal(sectionID)),
+                            matrix.conflictRow(matrix.getOrdinal(sectionID)));
+                }
+            }
+        }
+        assertSame(snapshot.getConflictMatrix(1), snapshot.getConflictMatrix(1));
+    }
+
+    // EFFECTS: Test that a search on the snapshot finds the same schedules as a search on the real data
+    @Test
+    void scheduleTest() {
+        List<String> courseIDs = Arrays.asList("CPSC 110", "CPSC 121", "MATH 101", "ENGL 110");
+        List<Schedule> expected = Scheduler.scheduleAndCalculateScore(schedule(real, courseIDs), 20);
+        List<Schedule> result = Scheduler.scheduleAndCalculateScore(schedule(snapshot, courseIDs), 20);
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSectionIDs(), result.get(i).getSectionIDs());
+            assertEquals(expected.get(i).getScore(), result.get(i).getScore());
+        }
+    }
+
+    // EFFECTS: Test that a file that is not a snapshot, is of another version or is cut short cannot be opened
+    @Test
+    void constructorTest() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.writeInt(CatalogSnapshot.MAGIC);
+            raf.writeInt(CatalogSnapshot.VERSION + 1);
+        }
+        assertThrows(IOException.class, () -> new CatalogSnapshot(file.toString()));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.writeInt(0);
+        }
+        assertThrows(IOException.class, () -> new CatalogSnapshot(file.toString()));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.writeInt(CatalogSnapshot.MAGIC);
+            raf.writeInt(CatalogSnapshot.VERSION);
+            raf.setLength(raf.length() / 2);
+        }
+        assertThrows(IOException.class, () -> new CatalogSnapshot(file.toString()));
+        assertThrows(IOException.class, () -> new CatalogSnapshot("./data/none.snapshot"));
+    }
+
+    // EFFECTS: returns a starting schedule for the given courses in term 1 of the given data
+    private Schedule schedule(CourseData data, List<String> courseIDs) {
+        Schedule schedule = new Schedule("test", 1, new Weight(1, 1, "9:00", "16:00"), data);
+        schedule.addCoursesByIDs(courseIDs);
+        return schedule;
+    }
+
+    // EFFECTS: returns the section IDs of the given sections
+    private List<String> sectionIDs(List<Section> sections) {
+        List<String> result = new ArrayList<>();
+        for (Section section : sections) {
+            result.add(section.getSectionID());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for ComponentMerge
+class ComponentMergeTest {
+
+    // EFFECTS: Test that merging the components gives the same ranked schedules as the joint search
+    @Test
+    void topSchedulesTest() {
+        CourseData data = new CourseRealData("./data/courses.json", "./data/sections.json");
+        for (Weight weight : Arrays.asList(new Weight(1, 1, "9:00", "15:00"), new Weight(2, 1, "10:00", "13:00"))) {
+            Schedule schedule = new Schedule("test schedule", 1, weight, data);
+            schedule.addCoursesByIDs(Arrays.asList("ENGL 111", "MATH 180", "BIOL 111"));
+            List<Schedule> allResults = Scheduler.scheduleAndCalculateScore(schedule);
+            ComponentMerge merge = new ComponentMerge(schedule, CourseComponents.split(schedule));
+            for (int k : Arrays.asList(1, 4, 1000)) {
+                List<Schedule> topResults = merge.topSchedules(k);
+                assertEquals(Math.min(k, allResults.size()), topResults.size());
+                for (int i = 0; i < topResults.size(); i++) {
+                    assertEquals(allResults.get(i).getSectionIDs(), topResults.get(i).getSectionIDs());
+                    assertEquals(allResults.get(i).getScore(), topResults.get(i).getScore());
+                }
+            }
+        }
+    }
+
+    // EFFECTS: Test that with a wide preferred window, where every overtime penalty is 0 and the merge cannot stop
+    //          early, a merge with more combinations than its limit makes no schedules of its own and runs the joint
+    //          search instead, with the same results
+    @Test
+    void topSchedulesTooManyCombinationsTest() {
+        CourseData data = new CourseRealData("./data/courses.json", "./data/sections.json");
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "6:00", "22:00"), data);
+        schedule.addCoursesByIDs(Arrays.asList("ENGL 111", "MATH 180", "BIOL 111"));
+        List<Schedule> expected = Scheduler.scheduleAndCalculateScore(schedule, 3, new InputOrdering());
+        ComponentMerge bounded = new ComponentMerge(schedule, CourseComponents.split(schedule), 10);
+        assertFalse(bounded.isMerged());
+        List<Schedule> result = bounded.topSchedules(3);
+        assertEquals(0, bounded.getSchedulesMade());
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(expected.get(i).getSectionIDs(), result.get(i).getSectionIDs());
+        }
+        ComponentMerge merge = new ComponentMerge(schedule, CourseComponents.split(schedule));
+        assertTrue(merge.isMerged());
+        assertEquals(3, merge.topSchedules(3).size());
+        assertTrue(merge.getSchedulesMade() <= ComponentMerge.MAX_COMBINATIONS);
+    }
+
+    // EFFECTS: Test that no schedules are made if a component has no solutions
+    @Test
+    void topSchedulesEmptyComponentTest() {
+        CourseData data = new CourseRealData("./data/courses.json", "./data/sections.json");
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"), data);
+        schedule.addCoursesByIDs(Arrays.asList("ENGL 111", "MATH 101"));
+        assertTrue(new ComponentMerge(schedule, CourseComponents.split(schedule)).topSchedules(3).isEmpty());
+    }
+}
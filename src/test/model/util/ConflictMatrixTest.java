@@ -0,0 +1,69 @@
+package model.util;
+
+import model.Section;
+import model.SectionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for ConflictMatrix
+class ConflictMatrixTest {
+
+    // EFFECTS: Test that the ordinals follow the order of the sections, and unknown sections have no ordinal
+    @Test
+    void getOrdinalTest() {
+        ConflictMatrix matrix = new ConflictMatrix(makeSections());
+        assertEquals(3, matrix.size());
+        assertEquals(0, matrix.getOrdinal("section1"));
+        assertEquals(2, matrix.getOrdinal("section3"));
+        assertEquals(-1, matrix.getOrdinal("section4"));
+        assertEquals(0, new ConflictMatrix(new ArrayList<>()).size());
+    }
+
+    // EFFECTS: Test that the matrix has the same conflicts as the sections, in both directions
+    @Test
+    void conflictsTest() {
+        ConflictMatrix matrix = new ConflictMatrix(makeSections());
+        assertTrue(matrix.conflicts(0, 1));
+        assertTrue(matrix.conflicts(1, 0));
+        assertFalse(matrix.conflicts(0, 2));
+        assertFalse(matrix.conflicts(2, 1));
+        assertTrue(matrix.conflicts(2, 2));
+        assertEquals(0b011L, matrix.conflictRow(0)[0]);
+        assertEquals(0b100L, matrix.conflictRow(2)[0]);
+    }
+
+    // EFFECTS: Test that the matrix of real data agrees with every conflict check between its sections, including
+    //          across the words of the rows
+    @Test
+    void realDataTest() {
+        CourseRealData data = new CourseRealData("./data/courses.json", "./data/sections.json");
+        ConflictMatrix matrix = data.getConflictMatrix(1);
+        List<Section> sections = new ArrayList<>();
+        for (String courseID : data.getAllCourseIDs()) {
+            sections.addAll(data.getRootSections(courseID, 1));
+        }
+        assertTrue(matrix.size() > Long.SIZE);
+        for (Section a : sections) {
+            for (Section b : sections) {
+                assertEquals(a.hasConflictWith(b), matrix.conflicts(matrix.getOrdinal(a.getSectionID()),
+                        matrix.getOrdinal(b.getSectionID())));
+            }
+        }
+    }
+
+    // EFFECTS: returns three sections, where the first two have a time conflict
+    private List<Section> makeSections() {
+        Section s1 = new Section("section1", "course1", SectionType.LECTURE, "9:00", "10:30",
+                Arrays.asList("Mon", "Wed"), 1, new ArrayList<>());
+        Section s2 = new Section("section2", "course2", SectionType.LECTURE, "10:00", "11:00",
+                Arrays.asList("Wed"), 1, new ArrayList<>());
+        Section s3 = new Section("section3", "course3", SectionType.LECTURE, "9:00", "10:30",
+                Arrays.asList("Tue", "Thu"), 1, new ArrayList<>());
+        return Arrays.asList(s1, s2, s3);
+    }
+}
@@ -0,0 +1,48 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for CourseComponents
+class CourseComponentsTest {
+
+    // EFFECTS: Test that courses that can share a time slot are in the same component, and courses that can never
+    //          share one are split into separate components
+    @Test
+    void splitTest() {
+        CourseData data = new CourseRealData("./data/courses.json", "./data/sections.json");
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"), data);
+        schedule.addCoursesByIDs(Arrays.asList("ENGL 110", "BIOL 111", "MATH 180"));
+        List<List<Integer>> components = CourseComponents.split(schedule);
+        List<Integer> all = new ArrayList<>();
+        for (List<Integer> component : components) {
+            List<Integer> sorted = new ArrayList<>(component);
+            Collections.sort(sorted);
+            assertEquals(sorted, component);
+            all.addAll(component);
+        }
+        Collections.sort(all);
+        assertEquals(Arrays.asList(0, 1, 2), all);
+        assertEquals(Arrays.asList(Arrays.asList(0, 2), Arrays.asList(1)), components);
+    }
+
+    // EFFECTS: Test that independent courses are split one per component, and that there are no components without
+    //          courses
+    @Test
+    void splitIndependentTest() {
+        CourseData data = new CourseRealData("./data/courses.json", "./data/sections.json");
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"), data);
+        assertTrue(CourseComponents.split(schedule).isEmpty());
+        schedule.addCoursesByIDs(Arrays.asList("ENGL 111", "MATH 180", "BIOL 111"));
+        assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList(1), Arrays.asList(2)),
+                CourseComponents.split(schedule));
+    }
+}
@@ -2,6 +2,7 @@ package model.util;
 
 import model.Course;
 import model.Section;
+import model.SectionType;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,46 @@ class CourseRealDataTest {
         assertEquals("CPSC 110", cpsc110Sections.get(1).getCourseID());
     }
 
+    // EFFECTS: Test that the root sections are only the lectures of the course in the term, and cannot be changed
+    @Test
+    void getRootSectionsIndexedTest() {
+        for (Section section : courseRealData.getRootSections("CPSC 110", 1)) {
+            assertEquals(SectionType.LECTURE, section.getSectionType());
+            assertEquals(1, section.getTerm());
+        }
+        assertTrue(courseRealData.getRootSections("NOPE 100", 1).isEmpty());
+        assertTrue(courseRealData.getRootSections("ASTR 102", 1).isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> courseRealData.getRootSections("CPSC 110", 1).clear());
+    }
+
+    // EFFECTS: Test that the sections of a course are all its sections in every term
+    @Test
+    void getSectionsOfCourseTest() {
+        List<Section> sections = courseRealData.getSectionsOfCourse("CPSC 110");
+        assertTrue(sections.contains(courseRealData.getSection("CPSC 110 101")));
+        assertTrue(sections.contains(courseRealData.getSection("CPSC 110 L12")));
+        assertTrue(sections.containsAll(courseRealData.getRootSections("CPSC 110", 1)));
+        assertTrue(sections.containsAll(courseRealData.getRootSections("CPSC 110", 2)));
+        for (Section section : sections) {
+            assertEquals("CPSC 110", section.getCourseID());
+        }
+        assertTrue(courseRealData.getSectionsOfCourse("NOPE 100").isEmpty());
+    }
+
+    // EFFECTS: Test that every section has a different ordinal it can be found by, and that an unknown section has none
+    @Test
+    void getOrdinalTest() {
+        int a = courseRealData.getOrdinal("CPSC 110 101");
+        int b = courseRealData.getOrdinal("CPSC 110 L12");
+        assertTrue(a >= 0);
+        assertTrue(b >= 0);
+        assertNotEquals(a, b);
+        assertEquals(-1, courseRealData.getOrdinal("NOPE 100 101"));
+        assertSame(courseRealData.getSection("CPSC 110 101"), courseRealData.getSection(a));
+        assertSame(courseRealData.getSection("CPSC 110 L12"), courseRealData.getSection(b));
+    }
+
     // EFFECTS: Test for getting the section from a given section ID
     @Test
     void getSectionTest() {
@@ -81,4 +122,25 @@ class CourseRealDataTest {
         assertTrue(courseRealData.getAllCourseIDs().size()>0);
     }
 
-}
\ No newline at end of file
+    // EFFECTS: Test for getting the conflict matrix of a term
+    @Test
+    void getConflictMatrixTest() {
+        ConflictMatrix matrix = courseRealData.getConflictMatrix(1);
+        int a = matrix.getOrdinal("CPSC 110 101");
+        int b = matrix.getOrdinal("CPSC 110 102");
+        assertTrue(a >= 0);
+        Section section = courseRealData.getSection("CPSC 110 101");
+        assertEquals(section.hasConflictWith(courseRealData.getSection("CPSC 110 102")), matrix.conflicts(a, b));
+        assertEquals(0, courseRealData.getConflictMatrix(7).size());
+    }
+
+    // EFFECTS: Test that the bundles of a course are expanded once and then shared
+    @Test
+    void getBundlesTest() {
+        List<Bundle> bundles = courseRealData.getBundles("CPSC 121", 1);
+        assertFalse(bundles.isEmpty());
+        assertSame(bundles, courseRealData.getBundles("CPSC 121", 1));
+        assertEquals(Bundle.expand(courseRealData, "CPSC 121", 1).size(), bundles.size());
+        assertTrue(courseRealData.getBundles("CPSC 121", 7).isEmpty());
+    }
+}
@@ -29,6 +29,18 @@ class CourseTestDataTest {
         assertEquals("CPSC 110", cpsc110Sections.get(1).getCourseID());
     }
 
+    // EFFECTS: Test for getting all the sections of a course and their ordinals
+    @Test
+    void getSectionsOfCourseTest() {
+        List<Section> sections = courseTestData.getSectionsOfCourse("CPSC 110");
+        assertTrue(sections.containsAll(courseTestData.getRootSections("CPSC 110", 1)));
+        assertTrue(sections.contains(courseTestData.getSection("CPSC 110 103")));
+        assertTrue(sections.contains(courseTestData.getSection("CPSC 110 L10")));
+        assertEquals(0, courseTestData.getOrdinal("CPSC 110 101"));
+        assertEquals(1, courseTestData.getOrdinal("CPSC 110 102"));
+        assertEquals(-1, courseTestData.getOrdinal("NOPE 100 101"));
+    }
+
     // EFFECTS: Test for getting the section from a given section ID
     @Test
     void getSectionTest() {
@@ -57,4 +69,27 @@ class CourseTestDataTest {
     void getAllCourseIDsTest() {
         assertTrue(courseTestData.getAllCourseIDs().size()>0);
     }
-}
\ No newline at end of file
+
+    // EFFECTS: Test for getting the conflict matrix of a term
+    @Test
+    void getConflictMatrixTest() {
+        ConflictMatrix matrix = courseTestData.getConflictMatrix(1);
+        int a = matrix.getOrdinal("CPSC 110 101");
+        int b = matrix.getOrdinal("CPSC 110 102");
+        assertTrue(a >= 0);
+        Section section = courseTestData.getSection("CPSC 110 101");
+        assertEquals(section.hasConflictWith(courseTestData.getSection("CPSC 110 102")), matrix.conflicts(a, b));
+        assertEquals(0, courseTestData.getConflictMatrix(7).size());
+        assertSame(matrix, courseTestData.getConflictMatrix(1));
+    }
+
+    // EFFECTS: Test that the bundles of a course are expanded once and then shared
+    @Test
+    void getBundlesTest() {
+        List<Bundle> bundles = courseTestData.getBundles("CPSC 110", 1);
+        assertFalse(bundles.isEmpty());
+        assertSame(bundles, courseTestData.getBundles("CPSC 110", 1));
+        assertEquals(Bundle.expand(courseTestData, "CPSC 110", 1).size(), bundles.size());
+        assertTrue(courseTestData.getBundles("CPSC 110", 7).isEmpty());
+    }
+}
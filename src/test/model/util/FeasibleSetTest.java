@@ -0,0 +1,85 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for FeasibleSet
+class FeasibleSetTest {
+    private CourseRealData data;
+
+    @BeforeEach
+    void runBefore() {
+        data = new CourseRealData("./data/courses.json", "./data/sections.json");
+    }
+
+    // EFFECTS: returns a starting schedule with the given weight and courses of the real course data in the given term
+    private Schedule makeSchedule(int term, Weight weight, String... courseIDs) {
+        Schedule schedule = new Schedule("test schedule", term, weight, data);
+        schedule.addCoursesByIDs(Arrays.asList(courseIDs));
+        return schedule;
+    }
+
+    // EFFECTS: Test that ranking the set for any weight gives the same classes, scores and order as a new search by
+    //          class with that weight
+    @Test
+    void rankTest() {
+        String[] courseIDs = {"CPSC 110", "MATH 101", "PHYS 117"};
+        FeasibleSet feasibleSet = new FeasibleSet(makeSchedule(2, new Weight(1, 1, "9:00", "15:00"), courseIDs));
+        List<Weight> weights = Arrays.asList(new Weight(1, 1, "9:00", "15:00"), new Weight(5, 1, "10:00", "14:00"),
+                new Weight(0, 3, "8:00", "12:00"), new Weight(2, 2, "11:00", "18:00"));
+        for (Weight weight : weights) {
+            List<ScheduleClass> expected = Scheduler.scheduleClassesAndCalculateScore(
+                    makeSchedule(2, weight, courseIDs));
+            List<ScheduleClass> ranked = feasibleSet.rank(weight);
+            assertEquals(expected.size(), ranked.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getScore(), ranked.get(i).getScore());
+                Schedule schedule = ranked.get(i).getSchedule();
+                assertEquals(expected.get(i).getSchedule().getSectionIDs(), schedule.getSectionIDs());
+                assertEquals(ranked.get(i).getScore(), ranked.get(i).getSchedule().getScore());
+                assertEquals(expected.get(i).size(), ranked.get(i).size());
+            }
+        }
+    }
+
+    // EFFECTS: Test the number of classes and of schedules of the set
+    @Test
+    void sizeTest() {
+        Schedule schedule = makeSchedule(2, new Weight(1, 1, "9:00", "15:00"), "MATH 101", "CPSC 110");
+        FeasibleSet feasibleSet = new FeasibleSet(schedule);
+        assertEquals(Scheduler.scheduleClassesAndCalculateScore(schedule).size(), feasibleSet.size());
+        assertEquals(Scheduler.scheduleAndCalculateScore(schedule).size(), feasibleSet.getNumOfSchedules());
+        assertTrue(feasibleSet.getNumOfSchedules() > feasibleSet.size());
+        assertSame(schedule, feasibleSet.getTemplate());
+    }
+
+    // EFFECTS: Test that a set of courses that cannot be scheduled is empty
+    @Test
+    void emptyTest() {
+        FeasibleSet feasibleSet = new FeasibleSet(makeSchedule(1, new Weight(1, 1, "9:00", "15:00"), "ASTR 102"));
+        assertEquals(0, feasibleSet.size());
+        assertEquals(0, feasibleSet.getNumOfSchedules());
+        assertTrue(feasibleSet.rank(new Weight(1, 1, "9:00", "15:00")).isEmpty());
+    }
+
+    // EFFECTS: Test that a cache of feasible sets is shared by every weight
+    @Test
+    void cacheTest() {
+        ScheduleCache<FeasibleSet> cache = ScheduleCache.forFeasibleSets(4, 1000000);
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        FeasibleSet first = cache.get(makeSchedule(1, weight, "CPSC 110", "MATH 180"));
+        weight = new Weight(4, 1, "8:00", "17:00");
+        FeasibleSet second = cache.get(makeSchedule(1, weight, "MATH 180", "CPSC 110"));
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(first.size() * 2, first.getNumOfBundles());
+        assertEquals(first.getNumOfBundles(), cache.getWeight());
+    }
+}
@@ -0,0 +1,64 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for IncrementalScore
+class IncrementalScoreTest {
+
+    // EFFECTS: Test that the score of every finished schedule, and of every change of one course that fits, is the
+    //          same as the one Schedule.calculateScore gives
+    @Test
+    void scoreTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(2, 1, "10:00", "14:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "MATH 180", "PHYS 117"));
+        List<Bundle> physics = schedule.getCourseData().getBundles("PHYS 117", 1);
+        SearchEngine engine = new SearchEngine(schedule);
+        for (Bundle[] bundles = engine.nextSolution(); bundles != null; bundles = engine.nextSolution()) {
+            IncrementalScore score = new IncrementalScore(schedule.getWeight(), bundles);
+            assertEquals(SearchEngine.finish(schedule, bundles).getScore(), score.score());
+            for (Bundle bundle : physics) {
+                if (!bundle.hasConflictWith(bundles[0]) && !bundle.hasConflictWith(bundles[1])) {
+                    Bundle[] changed = bundles.clone();
+                    changed[2] = bundle;
+                    assertEquals(SearchEngine.finish(schedule, changed).getScore(), score.scoreWith(2, bundle));
+                }
+            }
+            score.set(2, physics.get(0));
+            bundles[2] = physics.get(0);
+            assertEquals(new IncrementalScore(schedule.getWeight(), bundles).score(), score.score());
+        }
+    }
+
+    // EFFECTS: Test the score of a schedule without courses
+    @Test
+    void emptyTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        assertEquals(200, new IncrementalScore(schedule.getWeight(), new Bundle[0]).score());
+    }
+
+    // EFFECTS: Test that the compact and balance scores do not depend on the weight, and make up the score of a
+    //          schedule without overtime
+    @Test
+    void componentScoresTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(3, 2, "6:00", "22:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "MATH 180"));
+        SearchEngine engine = new SearchEngine(schedule);
+        for (Bundle[] bundles = engine.nextSolution(); bundles != null; bundles = engine.nextSolution()) {
+            IncrementalScore score = new IncrementalScore(schedule.getWeight(), bundles);
+            IncrementalScore other = new IncrementalScore(new Weight(1, 5, "12:00", "13:00"), bundles);
+            assertEquals(score.compactScore(), other.compactScore());
+            assertEquals(score.balanceScore(), other.balanceScore());
+            assertEquals(score.score(), score.compactScore() * 3 + score.balanceScore() * 2);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package model.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for InputOrdering
+class InputOrderingTest {
+
+    // EFFECTS: Test that the first variable that is not decided is chosen, whatever the domain sizes
+    @Test
+    void chooseTest() {
+        VariableOrdering ordering = new InputOrdering();
+        int[] domainSizes = {5, 1, 3, 2};
+        int[] degrees = {0, 0, 2, 1};
+        assertEquals(0, ordering.choose(domainSizes, degrees, new boolean[]{false, false, false, false}, 0, 4));
+        assertEquals(2, ordering.choose(domainSizes, degrees, new boolean[]{true, true, false, false}, 0, 4));
+        assertEquals(3, ordering.choose(domainSizes, degrees, new boolean[]{true, true, true, false}, 2, 4));
+    }
+}
@@ -0,0 +1,64 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for LocalSearch
+class LocalSearchTest {
+
+    // EFFECTS: returns a starting schedule with the given courses of the real course data in term 1
+    private Schedule makeSchedule(String... courseIDs) {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList(courseIDs));
+        return schedule;
+    }
+
+    // EFFECTS: Test that the best schedule found has no conflicts, keeps the template's root sections and is at least
+    //          as good as the one it started from
+    @Test
+    void runTest() {
+        Schedule schedule = makeSchedule("CPSC 110", "CPSC 121", "MATH 180");
+        schedule.addSectionID("CPSC 110 102");
+        LocalSearch search = new LocalSearch(schedule, 7);
+        Bundle[] best = search.run(50);
+        assertTrue(search.getIterations() > 0);
+        assertEquals("CPSC 110 102", best[0].getRoot().getSectionID());
+        for (int i = 0; i < best.length; i++) {
+            for (int j = i + 1; j < best.length; j++) {
+                assertFalse(best[i].hasConflictWith(best[j]));
+            }
+        }
+        Schedule start = SearchEngine.finish(schedule, new SearchEngine(schedule).nextSolution());
+        assertTrue(SearchEngine.finish(schedule, best).getScore() >= start.getScore());
+    }
+
+    // EFFECTS: Test that there is nothing to improve if no schedule can be made
+    @Test
+    void noScheduleTest() {
+        assertNull(new LocalSearch(makeSchedule("CPSC 110", "ASTR 102"), 7).run(10));
+    }
+
+    // EFFECTS: Test that the optimizer returns distinct schedules with real scores, never better than the best one
+    @Test
+    void optimizeTest() {
+        Schedule schedule = makeSchedule("CPSC 110", "CPSC 121", "MATH 180");
+        float exact = Scheduler.scheduleAndCalculateScore(schedule, 1).get(0).getScore();
+        List<Schedule> result = Scheduler.optimize(schedule, 50, 2, 1);
+        assertFalse(result.isEmpty());
+        assertTrue(result.size() <= 2);
+        for (Schedule s : result) {
+            Schedule copy = s.makeCopy();
+            copy.calculateScore();
+            assertEquals(copy.getScore(), s.getScore());
+            assertTrue(s.getScore() <= exact);
+        }
+        assertTrue(Scheduler.optimize(makeSchedule("ASTR 102"), 10, 2, 1).isEmpty());
+    }
+}
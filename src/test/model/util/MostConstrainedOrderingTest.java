@@ -0,0 +1,22 @@
+package model.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for MostConstrainedOrdering
+class MostConstrainedOrderingTest {
+
+    // EFFECTS: Test that the variable with the smallest domain is chosen, and ties are broken by degree and then by
+    //          input order
+    @Test
+    void chooseTest() {
+        VariableOrdering ordering = new MostConstrainedOrdering();
+        int[] domainSizes = {2, 5, 2, 2, 1};
+        int[] degrees = {1, 0, 3, 3, 0};
+        assertEquals(4, ordering.choose(domainSizes, degrees, new boolean[5], 0, 5));
+        assertEquals(2, ordering.choose(domainSizes, degrees, new boolean[]{false, false, false, false, true}, 0, 5));
+        assertEquals(3, ordering.choose(domainSizes, degrees, new boolean[]{false, false, true, false, true}, 0, 5));
+        assertEquals(1, ordering.choose(domainSizes, degrees, new boolean[5], 1, 2));
+    }
+}
@@ -0,0 +1,56 @@
+package model.util;
+
+import model.Section;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for PartialSchedule
+class PartialScheduleTest {
+    private CourseData data;
+    private ConflictMatrix matrix;
+
+    // EFFECTS: Makes the test data before each test
+    @BeforeEach
+    void setup() {
+        data = new CourseTestData();
+        matrix = data.getConflictMatrix(1);
+    }
+
+    // EFFECTS: Test that adding a bundle shares the parent and does not change it
+    @Test
+    void addTest() {
+        PartialSchedule empty = new PartialSchedule();
+        Bundle bundle = makeBundle("CPSC 110 101");
+        PartialSchedule child = empty.add(bundle);
+        assertEquals(0, empty.getLevel());
+        assertTrue(empty.getBundles().isEmpty());
+        assertEquals(1, child.getLevel());
+        assertSame(empty, child.getParent());
+        assertSame(bundle, child.getBundle());
+        assertEquals(Collections.singletonList(bundle), child.getBundles());
+        PartialSchedule sibling = empty.add(makeBundle("CPSC 110 102"));
+        assertSame(child.getParent(), sibling.getParent());
+        Bundle other = makeBundle("CPSC 121 102");
+        assertEquals(Arrays.asList(bundle, other), child.add(other).getBundles());
+    }
+
+    // EFFECTS: Test conflicts with the bundles of a partial schedule
+    @Test
+    void hasConflictWithTest() {
+        PartialSchedule schedule = new PartialSchedule().add(makeBundle("CPSC 121 101"));
+        assertTrue(schedule.hasConflictWith(makeBundle("CPSC 121 L1B")));
+        assertFalse(schedule.hasConflictWith(makeBundle("CPSC 121 L1A")));
+        assertFalse(new PartialSchedule().hasConflictWith(makeBundle("CPSC 121 L1B")));
+    }
+
+    // EFFECTS: returns a bundle of the single section with the given ID
+    private Bundle makeBundle(String sectionID) {
+        Section section = data.getSection(sectionID);
+        return new Bundle(Collections.singletonList(section), matrix);
+    }
+}
@@ -0,0 +1,126 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for ScheduleCache
+class ScheduleCacheTest {
+    private CourseRealData data;
+    private ScheduleCache<List<Schedule>> cache;
+
+    @BeforeEach
+    void runBefore() {
+        data = new CourseRealData("./data/courses.json", "./data/sections.json");
+        cache = makeCache(2, 1000000);
+    }
+
+    // EFFECTS: returns a cache in front of Scheduler.scheduleAndCalculateScore, keyed by weight too, that keeps at most
+    //          the given number of results and sections, and whose results cannot be changed
+    private ScheduleCache<List<Schedule>> makeCache(int maxEntries, long maxSections) {
+        return new ScheduleCache<>(s -> Collections.unmodifiableList(Scheduler.scheduleAndCalculateScore(s)),
+                ScheduleCacheTest::countSections, maxEntries, maxSections, true);
+    }
+
+    // EFFECTS: returns the number of sections of all the schedules
+    private static long countSections(List<Schedule> schedules) {
+        long sections = 0;
+        for (Schedule schedule : schedules) {
+            sections += schedule.getSectionIDs().size();
+        }
+        return sections;
+    }
+
+    // EFFECTS: returns a starting schedule with the given courses of the given course data in term 1
+    private Schedule makeSchedule(CourseData courseData, Weight weight, String... courseIDs) {
+        Schedule schedule = new Schedule("test schedule", 1, weight, courseData);
+        schedule.addCoursesByIDs(Arrays.asList(courseIDs));
+        return schedule;
+    }
+
+    // EFFECTS: Test that a lookup of the same courses in any order hits, and gives the result of the search of the
+    //          courses sorted
+    @Test
+    void getTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        List<Schedule> first = cache.get(makeSchedule(data, weight, "MATH 180", "CPSC 110"));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        List<Schedule> second = cache.get(makeSchedule(data, new Weight(1, 1, 540, 900), "CPSC 110", "MATH 180"));
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        Schedule sorted = makeSchedule(data, weight, "CPSC 110", "MATH 180");
+        List<Schedule> expected = Scheduler.scheduleAndCalculateScore(sorted);
+        assertEquals(expected.size(), first.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSectionIDs(), first.get(i).getSectionIDs());
+            assertEquals("", first.get(i).getName());
+        }
+        assertThrows(UnsupportedOperationException.class, () -> first.remove(0));
+    }
+
+    // EFFECTS: Test that another term or weight misses
+    @Test
+    void keyTest() {
+        cache.get(makeSchedule(data, new Weight(1, 1, "9:00", "15:00"), "CPSC 110"));
+        cache.get(makeSchedule(data, new Weight(2, 1, "9:00", "15:00"), "CPSC 110"));
+        Schedule otherTerm = new Schedule("test schedule", 2, new Weight(1, 1, "9:00", "15:00"), data);
+        otherTerm.addCoursesByID("CPSC 110");
+        cache.get(otherTerm);
+        assertEquals(0, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    // EFFECTS: Test that the least recently used result is dropped once there are too many
+    @Test
+    void evictionTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        List<Schedule> first = cache.get(makeSchedule(data, weight, "CPSC 110"));
+        cache.get(makeSchedule(data, weight, "MATH 180"));
+        cache.get(makeSchedule(data, weight, "CPSC 110"));
+        cache.get(makeSchedule(data, weight, "PHYS 117"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertSame(first, cache.get(makeSchedule(data, weight, "CPSC 110")));
+        assertEquals(2, cache.getHits());
+        cache.get(makeSchedule(data, weight, "MATH 180"));
+        assertEquals(2, cache.getHits());
+    }
+
+    // EFFECTS: Test that the cache never holds more sections than its weight, and does not keep a result heavier than
+    //          that
+    @Test
+    void weightTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        long sections = countSections(cache.get(makeSchedule(data, weight, "CPSC 110")));
+        assertEquals(sections, cache.getWeight());
+        ScheduleCache<List<Schedule>> small = makeCache(10, sections - 1);
+        small.get(makeSchedule(data, weight, "CPSC 110"));
+        assertEquals(0, small.size());
+        assertEquals(0, small.getWeight());
+        assertEquals(1, small.getEvictions());
+    }
+
+    // EFFECTS: Test that a lookup with other course data, or invalidate, drops every result
+    @Test
+    void invalidateTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        cache.get(makeSchedule(data, weight, "CPSC 110"));
+        CourseRealData reloaded = new CourseRealData("./data/courses.json", "./data/sections.json");
+        cache.get(makeSchedule(reloaded, weight, "CPSC 110"));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.size());
+        cache.invalidate();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+        cache.get(makeSchedule(reloaded, weight, "CPSC 110"));
+        assertEquals(0, cache.getHits());
+    }
+}
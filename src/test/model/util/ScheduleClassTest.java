@@ -0,0 +1,57 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for ScheduleClass
+class ScheduleClassTest {
+    private List<ScheduleClass> classes;
+
+    // EFFECTS: Searches by class for MATH 101 in term 2, which has sections held at the same times
+    @BeforeEach
+    void setup() {
+        Schedule schedule = new Schedule("test schedule", 2, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("MATH 101"));
+        classes = Scheduler.scheduleClassesAndCalculateScore(schedule);
+    }
+
+    // EFFECTS: Test that every schedule of a class has the score of the class, and the first one is its schedule
+    @Test
+    void expandTest() {
+        boolean foundLargeClass = false;
+        for (ScheduleClass scheduleClass : classes) {
+            List<Schedule> schedules = scheduleClass.expandAll();
+            assertEquals(scheduleClass.size(), schedules.size());
+            assertEquals(scheduleClass.getSchedule(), scheduleClass.expand(0));
+            for (Schedule schedule : schedules) {
+                assertEquals(scheduleClass.getScore(), schedule.getScore());
+            }
+            foundLargeClass = foundLargeClass || schedules.size() > 1;
+        }
+        assertTrue(foundLargeClass);
+    }
+
+    // EFFECTS: Test that the interchangeable section IDs of a class hold every section of its schedules
+    @Test
+    void getInterchangeableSectionIDsTest() {
+        for (ScheduleClass scheduleClass : classes) {
+            List<List<String>> interchangeable = scheduleClass.getInterchangeableSectionIDs();
+            List<String> sectionIDs = scheduleClass.getSchedule().getSectionIDs();
+            assertEquals(sectionIDs.size(), interchangeable.size());
+            for (Schedule schedule : scheduleClass.expandAll()) {
+                for (int i = 0; i < sectionIDs.size(); i++) {
+                    assertEquals(sectionIDs.get(i), interchangeable.get(i).get(0));
+                    assertTrue(interchangeable.get(i).contains(schedule.getSectionIDs().get(i)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for ScheduleCollector
+class ScheduleCollectorTest {
+
+    // EFFECTS: returns a schedule with the given section ID and score
+    private Schedule makeSchedule(String sectionID, float score) {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        schedule.addSectionID(sectionID);
+        schedule.setScore(score);
+        return schedule;
+    }
+
+    // EFFECTS: returns the schedules used by the tests, in the order they are added
+    private List<Schedule> makeSchedules() {
+        return Arrays.asList(makeSchedule("D", 50), makeSchedule("C", 80), makeSchedule("B", 50),
+                makeSchedule("E", -10), makeSchedule("A", 50), makeSchedule("F", 120));
+    }
+
+    // EFFECTS: Test that a collector that keeps everything ranks by score and then by section IDs
+    @Test
+    void keepEverythingTest() {
+        ScheduleCollector collector = new ScheduleCollector();
+        for (Schedule schedule : makeSchedules()) {
+            collector.add(schedule);
+        }
+        assertEquals(6, collector.size());
+        assertFalse(collector.isFull());
+        assertEquals(-10, collector.getLowestScore());
+        List<String> ranked = new ArrayList<>();
+        for (Schedule schedule : collector.getSchedules()) {
+            ranked.add(schedule.getSectionIDs().get(0));
+        }
+        assertEquals(Arrays.asList("F", "C", "A", "B", "D", "E"), ranked);
+    }
+
+    // EFFECTS: Test that a bounded collector keeps the best k schedules, whatever order they are added in
+    @Test
+    void boundedTest() {
+        ScheduleCollector collector = new ScheduleCollector(3);
+        for (Schedule schedule : makeSchedules()) {
+            collector.add(schedule);
+            assertTrue(collector.size() <= 3);
+        }
+        assertTrue(collector.isFull());
+        assertEquals(50, collector.getLowestScore());
+        List<String> ranked = new ArrayList<>();
+        for (Schedule schedule : collector.getSchedules()) {
+            ranked.add(schedule.getSectionIDs().get(0));
+        }
+        assertEquals(Arrays.asList("F", "C", "A"), ranked);
+    }
+
+    // EFFECTS: Test that a collector bounded by a huge k only takes memory for the schedules it is given
+    @Test
+    void hugeBoundTest() {
+        ScheduleCollector collector = new ScheduleCollector(Integer.MAX_VALUE);
+        for (Schedule schedule : makeSchedules()) {
+            collector.add(schedule);
+        }
+        assertEquals(6, collector.size());
+        assertFalse(collector.isFull());
+        assertEquals("F", collector.getSchedules().get(0).getSectionIDs().get(0));
+    }
+
+    // EFFECTS: Test that both kinds of collectors rank real schedules the same way
+    @Test
+    void sameRankingTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121"));
+        List<Schedule> all = Scheduler.scheduleAndCalculateScore(schedule);
+        ScheduleCollector collector = new ScheduleCollector(5);
+        for (int i = all.size() - 1; i >= 0; i--) {
+            collector.add(all.get(i));
+        }
+        assertEquals(all.subList(0, 5), collector.getSchedules());
+        List<Schedule> sorted = new ArrayList<>(all);
+        sorted.sort(ScheduleCollector.BEST_FIRST);
+        assertEquals(sorted, all);
+    }
+}
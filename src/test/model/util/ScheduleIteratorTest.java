@@ -0,0 +1,63 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for ScheduleIterator
+class ScheduleIteratorTest {
+
+    // EFFECTS: Test that the iterator makes the same schedules as the full search
+    @Test
+    void iteratorTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121"));
+        Set<List<String>> expected = new HashSet<>();
+        for (Schedule s : Scheduler.scheduleAndCalculateScore(schedule)) {
+            expected.add(s.getSectionIDs());
+        }
+        Set<List<String>> actual = new HashSet<>();
+        Iterator<Schedule> iterator = Scheduler.iterator(schedule);
+        while (iterator.hasNext()) {
+            Schedule next = iterator.next();
+            assertTrue(next.getScore() > 0);
+            actual.add(next.getSectionIDs());
+        }
+        assertEquals(16, actual.size());
+        assertEquals(expected, actual);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    // EFFECTS: Test that an empty schedule gives exactly one finished schedule
+    @Test
+    void iteratorEmptyIDsTest() {
+        Schedule schedule = new Schedule("test schedule", 2, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        Iterator<Schedule> iterator = new ScheduleIterator(schedule);
+        assertTrue(iterator.hasNext());
+        assertEquals(200, iterator.next().getScore());
+        assertFalse(iterator.hasNext());
+    }
+
+    // EFFECTS: Test that the stream can be stopped early and filtered
+    @Test
+    void streamTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "16:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "MATH 180", "PHYS 117"));
+        List<Schedule> all = Scheduler.scheduleAndCalculateScore(schedule);
+        assertEquals(all.size(), Scheduler.stream(schedule).count());
+        assertEquals(3, Scheduler.stream(schedule).limit(3).count());
+        float best = all.get(0).getScore();
+        List<Schedule> bestSchedules = Scheduler.stream(schedule)
+                .filter(s -> s.getScore() == best)
+                .collect(Collectors.toList());
+        assertEquals(all.get(0).getSectionIDs(), bestSchedules.get(0).getSectionIDs());
+    }
+}
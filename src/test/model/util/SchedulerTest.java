@@ -6,7 +6,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,4 +45,117 @@ class SchedulerTest {
         assertTrue(result.get(0).getSortedSections().get("Mon").size() > 0);
     }
 
-}
\ No newline at end of file
+    // EFFECTS: Test that the classes of schedules expand to exactly the schedules of the full search, with the same
+    //          scores, and are sorted by score
+    @Test
+    void scheduleClassesAndCalculateScoreTest() {
+        Schedule schedule = new Schedule("test schedule", 2, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("MATH 101", "CPSC 110"));
+        Map<List<String>, Float> expected = new HashMap<>();
+        for (Schedule s : Scheduler.scheduleAndCalculateScore(schedule)) {
+            expected.put(s.getSectionIDs(), s.getScore());
+        }
+        List<ScheduleClass> classes = Scheduler.scheduleClassesAndCalculateScore(schedule);
+        assertTrue(classes.size() < expected.size());
+        Map<List<String>, Float> actual = new HashMap<>();
+        for (int i = 0; i < classes.size(); i++) {
+            if (i > 0) {
+                assertTrue(classes.get(i - 1).getScore() >= classes.get(i).getScore());
+            }
+            for (Schedule s : classes.get(i).expandAll()) {
+                actual.put(s.getSectionIDs(), s.getScore());
+            }
+        }
+        assertEquals(expected, actual);
+    }
+
+    // EFFECTS: Test that the branch and bound search returns the same schedules as the first k of the full search
+    @Test
+    void scheduleAndCalculateScoreTopKTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        Schedule schedule = new Schedule(
+                "test schedule",
+                1,
+                weight,
+                new CourseTestData());
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121"));
+        List<Schedule> allResults = Scheduler.scheduleAndCalculateScore(schedule);
+        for (int k : Arrays.asList(1, 3, 16, 20)) {
+            List<Schedule> topResults = Scheduler.scheduleAndCalculateScore(schedule, k);
+            assertEquals(Math.min(k, allResults.size()), topResults.size());
+            for (int i = 0; i < topResults.size(); i++) {
+                assertEquals(allResults.get(i).getSectionIDs(), topResults.get(i).getSectionIDs());
+                assertEquals(allResults.get(i).getScore(), topResults.get(i).getScore());
+            }
+        }
+    }
+
+    // EFFECTS: Test the branch and bound search on the real course data
+    @Test
+    void scheduleAndCalculateScoreTopKRealDataTest() {
+        Weight weight = new Weight(2, 1, "10:00", "15:00");
+        Schedule schedule = new Schedule(
+                "test schedule",
+                1,
+                weight,
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "MATH 180", "PHYS 117"));
+        List<Schedule> allResults = Scheduler.scheduleAndCalculateScore(schedule);
+        List<Schedule> topResults = Scheduler.scheduleAndCalculateScore(schedule, 5);
+        assertEquals(5, topResults.size());
+        for (int i = 0; i < topResults.size(); i++) {
+            assertEquals(allResults.get(i).getSectionIDs(), topResults.get(i).getSectionIDs());
+        }
+    }
+
+    // EFFECTS: Test for the branch and bound search with no courses to be scheduled
+    @Test
+    void scheduleAndCalculateScoreTopKEmptyIDsTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        Schedule schedule = new Schedule(
+                "test schedule",
+                2,
+                weight,
+                new CourseTestData());
+        List<Schedule> result = Scheduler.scheduleAndCalculateScore(schedule, 3);
+        assertEquals(1, result.size());
+        assertEquals(200, result.get(0).getScore());
+    }
+
+    // EFFECTS: Test that the parallel search returns the same ranked list as the serial search
+    @Test
+    void scheduleAndCalculateScoreInParallelTest() {
+        Weight weight = new Weight(1, 3, "10:00", "16:00");
+        Schedule schedule = new Schedule(
+                "test schedule",
+                1,
+                weight,
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "MATH 180", "PHYS 117"));
+        List<Schedule> serialResults = Scheduler.scheduleAndCalculateScore(schedule);
+        for (int parallelism : Arrays.asList(1, 4)) {
+            List<Schedule> parallelResults = Scheduler.scheduleAndCalculateScoreInParallel(schedule, parallelism);
+            assertEquals(serialResults.size(), parallelResults.size());
+            for (int i = 0; i < serialResults.size(); i++) {
+                assertEquals(serialResults.get(i).getSectionIDs(), parallelResults.get(i).getSectionIDs());
+                assertEquals(serialResults.get(i).getScore(), parallelResults.get(i).getScore());
+            }
+        }
+    }
+
+    // EFFECTS: Test for the parallel search with no courses to be scheduled
+    @Test
+    void scheduleAndCalculateScoreInParallelEmptyIDsTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        Schedule schedule = new Schedule(
+                "test schedule",
+                2,
+                weight,
+                new CourseTestData());
+        List<Schedule> result = Scheduler.scheduleAndCalculateScoreInParallel(schedule, 2);
+        assertEquals(1, result.size());
+        assertEquals(200, result.get(0).getScore());
+    }
+
+}
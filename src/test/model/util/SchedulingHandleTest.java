@@ -0,0 +1,134 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import model.exceptions.SchedulingFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for SchedulingHandle
+class SchedulingHandleTest {
+
+    // EFFECTS: returns a starting schedule with the given courses of the real course data in term 1
+    private Schedule makeSchedule(String... courseIDs) {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList(courseIDs));
+        return schedule;
+    }
+
+    // EFFECTS: Test that a run without limits returns the same schedules as the top k search, and reports its
+    //          progress when it is done
+    @Test
+    void completeTest() throws InterruptedException {
+        Schedule schedule = makeSchedule("CPSC 110", "MATH 180", "PHYS 117");
+        SchedulingRequest request = new SchedulingRequest(schedule, 5);
+        List<Integer> reported = new ArrayList<>();
+        request.setProgressListener((nodes, schedulesFound, bestScore) -> reported.add(schedulesFound));
+        SchedulingHandle handle = Scheduler.start(request);
+        List<Schedule> result = handle.getSchedules();
+        assertTrue(handle.isDone());
+        assertEquals(SchedulingStatus.COMPLETE, handle.getStatus());
+        assertNull(handle.getFailure());
+        List<Schedule> expected = Scheduler.scheduleAndCalculateScore(schedule, 5);
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(expected.get(i).getSectionIDs(), result.get(i).getSectionIDs());
+        }
+        assertEquals(expected.get(0).getScore(), handle.getBestScore());
+        assertTrue(handle.getNodes() > 0);
+        assertEquals(handle.getSchedulesFound(), (int) reported.get(reported.size() - 1));
+    }
+
+    // EFFECTS: Test that a run stops at the first checkpoint past its node budget and keeps its best schedules
+    @Test
+    void nodeBudgetTest() throws InterruptedException {
+        SchedulingRequest request = new SchedulingRequest(makeSchedule("CPSC 110", "CPSC 121", "MATH 180"), 0);
+        request.setNodeBudget(1);
+        SchedulingHandle handle = Scheduler.start(request, Runnable::run);
+        assertEquals(SchedulingStatus.OUT_OF_NODES, handle.getStatus());
+        assertEquals(SchedulingHandle.CHECKPOINT_NODES, handle.getNodes());
+        List<Schedule> result = handle.getSchedules();
+        assertEquals(handle.getSchedulesFound(), result.size());
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).getScore() >= result.get(i).getScore());
+        }
+    }
+
+    // EFFECTS: Test that a run stops once its time is up
+    @Test
+    void timeLimitTest() throws InterruptedException {
+        SchedulingRequest request = new SchedulingRequest(makeSchedule("CPSC 110", "CPSC 121", "MATH 180",
+                "ENGL 111"), 0);
+        request.setTimeLimit(1);
+        SchedulingHandle handle = Scheduler.start(request, Runnable::run);
+        assertEquals(SchedulingStatus.TIMED_OUT, handle.getStatus());
+        assertTrue(handle.getSchedules().size() < 13391);
+    }
+
+    // EFFECTS: Test that an approximate run without limits ends with an exact round, the same best schedules as the
+    //          exact search and no gap, and reports every round
+    @Test
+    void beamSearchTest() throws InterruptedException {
+        Schedule schedule = makeSchedule("CPSC 110", "CPSC 121", "MATH 180");
+        SchedulingRequest request = new SchedulingRequest(schedule, 3);
+        request.setBeamWidth(1);
+        List<Float> gaps = new ArrayList<>();
+        request.setProgressListener(new ProgressListener() {
+            @Override
+            public void onProgress(long nodes, int schedulesFound, float bestScore) {
+            }
+
+            @Override
+            public void onRoundFinished(int beamWidth, float bestScore, float gap) {
+                gaps.add(gap);
+            }
+        });
+        SchedulingHandle handle = Scheduler.start(request, Runnable::run);
+        assertEquals(SchedulingStatus.COMPLETE, handle.getStatus());
+        assertEquals(0, handle.getGap());
+        assertTrue(gaps.size() > 1);
+        for (int i = 1; i < gaps.size(); i++) {
+            assertTrue(gaps.get(i) <= gaps.get(i - 1));
+        }
+        List<Schedule> expected = Scheduler.scheduleAndCalculateScore(schedule, 3);
+        List<Schedule> result = handle.getSchedules();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSectionIDs(), result.get(i).getSectionIDs());
+        }
+    }
+
+    // EFFECTS: Test that a run whose search throws is failed, and that asking for its schedules throws what it threw
+    @Test
+    void failedTest() {
+        SchedulingRequest request = new SchedulingRequest(makeSchedule("CPSC 110"), 0);
+        IllegalStateException thrown = new IllegalStateException("listener failed");
+        request.setProgressListener((nodes, schedulesFound, bestScore) -> {
+            throw thrown;
+        });
+        SchedulingHandle handle = Scheduler.start(request, Runnable::run);
+        assertTrue(handle.isDone());
+        assertEquals(SchedulingStatus.FAILED, handle.getStatus());
+        assertSame(thrown, handle.getFailure());
+        SchedulingFailedException e = assertThrows(SchedulingFailedException.class, handle::getSchedules);
+        assertSame(thrown, e.getCause());
+    }
+
+    // EFFECTS: Test that a cancelled run stops without searching
+    @Test
+    void cancelTest() throws InterruptedException {
+        SchedulingHandle handle = new SchedulingHandle(new SchedulingRequest(makeSchedule("CPSC 110"), 0));
+        assertFalse(handle.isDone());
+        assertEquals(SchedulingStatus.RUNNING, handle.getStatus());
+        handle.cancel();
+        handle.run();
+        assertEquals(SchedulingStatus.CANCELLED, handle.getStatus());
+        assertTrue(handle.getSchedules().isEmpty());
+        assertEquals(Float.NEGATIVE_INFINITY, handle.getBestScore());
+    }
+}
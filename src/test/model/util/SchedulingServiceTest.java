@@ -0,0 +1,81 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for SchedulingService
+class SchedulingServiceTest {
+    private SchedulingService service;
+
+    @BeforeEach
+    void runBefore() {
+        service = new SchedulingService(1);
+    }
+
+    @AfterEach
+    void runAfter() {
+        service.shutdown();
+    }
+
+    // EFFECTS: returns a request for all the schedules of the given courses of the real course data in term 1, that
+    //          runs for at most the given number of milliseconds
+    private SchedulingRequest makeRequest(long timeLimit, String... courseIDs) {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList(courseIDs));
+        SchedulingRequest request = new SchedulingRequest(schedule, 0);
+        request.setTimeLimit(timeLimit);
+        return request;
+    }
+
+    // EFFECTS: Test that an identical request in flight gets the same handle, and that a request after the run is
+    //          done starts a new one
+    @Test
+    void coalesceTest() throws InterruptedException {
+        String[] courseIDs = {"CPSC 110", "CPSC 121", "MATH 180", "PHYS 117", "ENGL 110", "CPSC 210"};
+        SchedulingHandle first = service.submit(makeRequest(300, courseIDs));
+        SchedulingHandle second = service.submit(makeRequest(300, courseIDs));
+        assertSame(first, second);
+        assertEquals(1, service.getCoalesced());
+        first.getSchedules();
+        while (service.getInFlight() > 0) {
+            Thread.sleep(1);
+        }
+        SchedulingHandle third = service.submit(makeRequest(300, courseIDs));
+        assertNotSame(first, third);
+        assertEquals(1, service.getCoalesced());
+        third.cancel();
+    }
+
+    // EFFECTS: Test that requests that differ are not coalesced, and both return their own schedules
+    @Test
+    void differentRequestsTest() throws InterruptedException {
+        SchedulingHandle first = service.submit(makeRequest(0, "CPSC 110", "MATH 180"));
+        SchedulingHandle second = service.submit(makeRequest(1000, "CPSC 110", "MATH 180"));
+        assertNotSame(first, second);
+        List<Schedule> firstSchedules = first.getSchedules();
+        List<Schedule> secondSchedules = second.getSchedules();
+        assertEquals(firstSchedules.size(), secondSchedules.size());
+        assertEquals(0, service.getCoalesced());
+    }
+
+    // EFFECTS: Test that a request with a progress listener always starts a run of its own
+    @Test
+    void progressListenerTest() throws InterruptedException {
+        SchedulingRequest request = makeRequest(0, "CPSC 110");
+        request.setProgressListener((nodes, schedulesFound, bestScore) -> { });
+        SchedulingHandle first = service.submit(request);
+        SchedulingHandle second = service.submit(request);
+        assertNotSame(first, second);
+        assertFalse(first.getSchedules().isEmpty());
+        assertFalse(second.getSchedules().isEmpty());
+    }
+}
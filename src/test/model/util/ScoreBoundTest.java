@@ -0,0 +1,58 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+import model.SectionType;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for ScoreBound
+class ScoreBoundTest {
+
+    // EFFECTS: Test that the overtime penalty is counted once for every weekday of the section
+    @Test
+    void overtimePenaltyTest() {
+        ScoreBound bound = new ScoreBound(new Weight(1, 1, "9:00", "15:00"));
+        Section early = new Section("early", "course", SectionType.LECTURE, "8:00", "9:00",
+                Arrays.asList("Mon", "Wed"), 1, new ArrayList<>());
+        Section late = new Section("late", "course", SectionType.LECTURE, "14:00", "16:30",
+                Arrays.asList("Fri"), 1, new ArrayList<>());
+        Section inside = new Section("inside", "course", SectionType.LECTURE, "10:00", "11:00",
+                Arrays.asList("Mon", "Tue", "Wed"), 1, new ArrayList<>());
+        assertEquals(4, bound.overtimePenalty(early));
+        assertEquals(3, bound.overtimePenalty(late));
+        assertEquals(0, bound.overtimePenalty(inside));
+    }
+
+    // EFFECTS: Test that the upper bound is never lower than the score of a finished schedule
+    @Test
+    void upperBoundTest() {
+        Weight weight = new Weight(1, 2, "13:30", "16:00");
+        ScoreBound bound = new ScoreBound(weight);
+        assertEquals(300, bound.upperBound(0));
+        assertEquals(150, bound.upperBound(1));
+
+        Schedule schedule = new Schedule("testSchedule", 2, weight, new CourseTestData());
+        schedule.addSectionID("weightTest1");
+        schedule.addSectionID("weightTest2");
+        schedule.calculateScore();
+        int penalty = 0;
+        for (Section section : schedule.getCourseData().getSections(schedule.getSectionIDs())) {
+            penalty += bound.overtimePenalty(section);
+        }
+        assertEquals(5, penalty);
+        assertTrue(schedule.getScore() <= bound.upperBound(penalty));
+    }
+
+    // EFFECTS: Test that negative weights give no bound
+    @Test
+    void upperBoundNegativeWeightTest() {
+        ScoreBound bound = new ScoreBound(new Weight(-1, 1, "9:00", "15:00"));
+        assertEquals(Float.POSITIVE_INFINITY, bound.upperBound(0));
+    }
+}
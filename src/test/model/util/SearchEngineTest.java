@@ -0,0 +1,130 @@
+package model.util;
+
+import model.Schedule;
+import model.Section;
+import model.Weight;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for SearchEngine
+class SearchEngineTest {
+
+    // EFFECTS: Test that the search finds every finished schedule and then returns null
+    @Test
+    void nextTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121"));
+        SearchEngine engine = new SearchEngine(schedule);
+        List<Schedule> result = engine.toList();
+        assertEquals(16, result.size());
+        for (Schedule s : result) {
+            assertTrue(s.getSectionIDs().size() >= 4);
+        }
+        assertNull(engine.next());
+    }
+
+    // EFFECTS: Test that a search can start from a partial schedule
+    @Test
+    void partialStartTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121"));
+        PartialSchedule start = new PartialSchedule();
+        List<Bundle> first = SearchEngine.nextBundles(schedule, start);
+        assertEquals("CPSC 110 101", first.get(0).getRoot().getSectionID());
+        start = start.add(first.get(0));
+        List<Bundle> next = SearchEngine.nextBundles(schedule, start);
+        assertEquals("CPSC 121 102", next.get(0).getRoot().getSectionID());
+        for (Bundle bundle : next) {
+            assertFalse(bundle.hasConflictWith(first.get(0)));
+        }
+        for (Schedule s : new SearchEngine(schedule, start, null).toList()) {
+            assertEquals("CPSC 110 101", s.getSectionIDs().get(0));
+        }
+        assertNull(SearchEngine.nextBundles(schedule, start.add(next.get(0))));
+    }
+
+    // EFFECTS: Test that the root sections of the template fix the bundles of their courses
+    @Test
+    void templateRootsTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseTestData());
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121"));
+        schedule.addSectionID("CPSC 110 102");
+        List<Schedule> result = new SearchEngine(schedule).toList();
+        assertFalse(result.isEmpty());
+        for (Schedule s : result) {
+            assertEquals("CPSC 110 102", s.getSectionIDs().get(0));
+            assertTrue(s.getSectionIDs().get(1).startsWith("CPSC 121 1"));
+        }
+    }
+
+    // EFFECTS: Test that a search with a bound skips the branches that cannot beat the prune score
+    @Test
+    void pruneScoreTest() {
+        Weight weight = new Weight(1, 1, "9:00", "15:00");
+        Schedule schedule = new Schedule("test schedule", 1, weight, new CourseTestData());
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121"));
+        SearchEngine engine = new SearchEngine(schedule, new ScoreBound(weight));
+        engine.setPruneScore(200);
+        assertNull(engine.next());
+    }
+
+    // EFFECTS: Test a wide selection of courses, where every partial schedule used to add to the depth of the
+    //          recursion
+    @Test
+    void wideSelectionTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121", "MATH 180", "ENGL 111"));
+        SearchEngine engine = new SearchEngine(schedule);
+        int count = 0;
+        for (Schedule s = engine.next(); s != null; s = engine.next()) {
+            count++;
+        }
+        assertTrue(count > 10000);
+    }
+
+    // EFFECTS: Test that forward checking only drops branches with conflicts, so every finished schedule is free of
+    //          conflicts and no section is chosen twice
+    @Test
+    void forwardCheckingTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121", "CPSC 110"));
+        for (Schedule s : new SearchEngine(schedule).toList()) {
+            List<Section> sections = s.getCourseData().getSections(s.getSectionIDs());
+            for (int i = 0; i < sections.size(); i++) {
+                for (int j = i + 1; j < sections.size(); j++) {
+                    assertFalse(sections.get(i).hasConflictWith(sections.get(j)));
+                }
+            }
+        }
+    }
+
+    // EFFECTS: Test that deciding the most constrained course or antirequisite first finds the same schedules, with
+    //          their sections in input order
+    @Test
+    void mostConstrainedOrderingTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121", "MATH 180"));
+        Set<List<String>> expected = new HashSet<>();
+        for (Schedule s : new SearchEngine(schedule).toList()) {
+            expected.add(s.getSectionIDs());
+        }
+        Set<List<String>> actual = new HashSet<>();
+        for (Schedule s : new SearchEngine(schedule, null, new MostConstrainedOrdering()).toList()) {
+            actual.add(s.getSectionIDs());
+        }
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,64 @@
+package model.util;
+
+import model.Section;
+import model.SectionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for SectionIndex
+class SectionIndexTest {
+    List<Section> sections;
+    SectionIndex index;
+
+    // EFFECTS: Makes an index of a lecture and a lab of one course in term 1, and a lecture of it in term 2
+    @BeforeEach
+    void setup() {
+        sections = Arrays.asList(
+                new Section("A 100 101", "A 100", SectionType.LECTURE, "9:00", "10:00", Arrays.asList("Mon"), 1,
+                        new ArrayList<>()),
+                new Section("A 100 L1", "A 100", SectionType.LABORATORY, "11:00", "12:00", Arrays.asList("Tue"), 1,
+                        new ArrayList<>()),
+                new Section("A 100 201", "A 100", SectionType.LECTURE, "9:00", "10:00", Arrays.asList("Mon"), 2,
+                        new ArrayList<>()),
+                new Section("B 200 101", "B 200", SectionType.LECTURE, "9:00", "10:00", Arrays.asList("Wed"), 1,
+                        new ArrayList<>()));
+        index = new SectionIndex(sections);
+    }
+
+    // EFFECTS: Test that the lectures of a course are found by term, in the order they were given
+    @Test
+    void getLecturesTest() {
+        assertEquals(Arrays.asList(sections.get(0)), index.getLectures("A 100", 1));
+        assertEquals(Arrays.asList(sections.get(2)), index.getLectures("A 100", 2));
+        assertEquals(Arrays.asList(sections.get(3)), index.getLectures("B 200", 1));
+        assertTrue(index.getLectures("B 200", 2).isEmpty());
+        assertTrue(index.getLectures("C 300", 1).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> index.getLectures("A 100", 1).add(sections.get(3)));
+    }
+
+    // EFFECTS: Test that every section of a course is found, in the order they were given
+    @Test
+    void getSectionsOfCourseTest() {
+        assertEquals(sections.subList(0, 3), index.getSectionsOfCourse("A 100"));
+        assertEquals(sections.subList(3, 4), index.getSectionsOfCourse("B 200"));
+        assertTrue(index.getSectionsOfCourse("C 300").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> index.getSectionsOfCourse("A 100").remove(0));
+    }
+
+    // EFFECTS: Test that the ordinals are dense and in the order the sections were given
+    @Test
+    void getOrdinalTest() {
+        assertEquals(4, index.size());
+        for (int i = 0; i < sections.size(); i++) {
+            assertEquals(i, index.getOrdinal(sections.get(i).getSectionID()));
+            assertSame(sections.get(i), index.getSection(i));
+        }
+        assertEquals(-1, index.getOrdinal("C 300 101"));
+    }
+}
@@ -0,0 +1,129 @@
+package model.util;
+
+import model.Course;
+import model.Schedule;
+import model.Section;
+import model.SectionType;
+import model.Weight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for SectionTable
+class SectionTableTest {
+    CourseRealData real;
+    SectionTable table;
+
+    // EFFECTS: Makes the real data and a table of the same files before every test
+    @BeforeEach
+    void setup() {
+        real = new CourseRealData("./data/courses.json", "./data/sections.json");
+        table = new SectionTable("./data/courses.json", "./data/sections.json");
+    }
+
+    // EFFECTS: Test that every section of the table has the same fields as the section of the real data
+    @Test
+    void getSectionTest() {
+        assertTrue(table.size() > 0);
+        for (int ordinal = 0; ordinal < table.size(); ordinal++) {
+            Section section = table.getSection(ordinal);
+            Section expected = real.getSection(section.getSectionID());
+            assertEquals(ordinal, table.getOrdinal(section.getSectionID()));
+            assertSame(section, table.getSection(section.getSectionID()));
+            assertEquals(expected.getCourseID(), section.getCourseID());
+            assertEquals(expected.getSectionType(), section.getSectionType());
+            assertEquals(expected.getStartTime(), section.getStartTime());
+            assertEquals(expected.getEndTime(), section.getEndTime());
+            assertEquals(new HashSet<>(expected.getWeekDays()), new HashSet<>(section.getWeekDays()));
+            assertEquals(expected.getTerm(), section.getTerm());
+            assertEquals(expected.getAntiRequisiteIDs(), section.getAntiRequisiteIDs());
+        }
+        assertEquals(-1, table.getOrdinal("NOPE 100 101"));
+        assertNull(table.getSection("NOPE 100 101"));
+    }
+
+    // EFFECTS: Test that the lectures and sections of every course are the same as in the real data
+    @Test
+    void getRootSectionsTest() {
+        assertEquals(real.getAllCourseIDs(), table.getAllCourseIDs());
+        for (String courseID : table.getAllCourseIDs()) {
+            assertEquals(table.getCourseByID(courseID).getCourseID(), courseID);
+            for (int term = 1; term <= 2; term++) {
+                assertEquals(sectionIDs(real.getRootSections(courseID, term)),
+                        sectionIDs(table.getRootSections(courseID, term)));
+            }
+            assertEquals(sectionIDs(real.getSectionsOfCourse(courseID)),
+                    sectionIDs(table.getSectionsOfCourse(courseID)));
+        }
+        assertTrue(table.getRootSections("NOPE 100", 1).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> table.getRootSections("CPSC 110", 1).clear());
+    }
+
+    // EFFECTS: Test that the conflict matrix made from the columns is the same as the one made from the sections
+    @Test
+    void getConflictMatrixTest() {
+        for (int term = 1; term <= 2; term++) {
+            ConflictMatrix expected = real.getConflictMatrix(term);
+            ConflictMatrix matrix = table.getConflictMatrix(term);
+            assertEquals(expected.size(), matrix.size());
+            for (int a = 0; a < table.size(); a++) {
+                String sectionID = table.getSection(a).getSectionID();
+                assertEquals(expected.getOrdinal(sectionID), matrix.getOrdinal(sectionID));
+                if (matrix.getOrdinal(sectionID) >= 0) {
+                    assertArrayEquals(expected.conflictRow(expected.getOrdinal(sectionID)),
+                            matrix.conflictRow(matrix.getOrdinal(sectionID)));
+                }
+            }
+        }
+        assertSame(table.getConflictMatrix(1), table.getConflictMatrix(1));
+    }
+
+    // EFFECTS: Test that a search on the table finds the same schedules as a search on the real data
+    @Test
+    void scheduleTest() {
+        List<String> courseIDs = Arrays.asList("CPSC 110", "CPSC 121", "MATH 101", "ENGL 110");
+        List<Schedule> expected = Scheduler.scheduleAndCalculateScore(schedule(real, courseIDs), 20);
+        List<Schedule> result = Scheduler.scheduleAndCalculateScore(schedule(table, courseIDs), 20);
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSectionIDs(), result.get(i).getSectionIDs());
+            assertEquals(expected.get(i).getScore(), result.get(i).getScore());
+        }
+    }
+
+    // EFFECTS: Test that a table cannot be made of a section on a day it does not know, and that a table of files
+    //          that cannot be read is empty
+    @Test
+    void constructorTest() {
+        List<Section> sections = Arrays.asList(new Section("A 100 101", "A 100", SectionType.LECTURE, "9:00",
+                "10:00", Arrays.asList("Mon, Wed"), 1, new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SectionTable(Arrays.asList(new Course("A 100", "a course")), sections));
+        SectionTable empty = new SectionTable("./data/none.json", "./data/none.json");
+        assertEquals(0, empty.size());
+        assertTrue(empty.getAllCourse().isEmpty());
+        assertEquals(0, empty.getConflictMatrix(1).size());
+    }
+
+    // EFFECTS: returns a starting schedule for the given courses in term 1 of the given data
+    private Schedule schedule(CourseData data, List<String> courseIDs) {
+        Schedule schedule = new Schedule("test", 1, new Weight(1, 1, "9:00", "16:00"), data);
+        schedule.addCoursesByIDs(courseIDs);
+        return schedule;
+    }
+
+    // EFFECTS: returns the section IDs of the given sections
+    private List<String> sectionIDs(List<Section> sections) {
+        List<String> result = new ArrayList<>();
+        for (Section section : sections) {
+            result.add(section.getSectionID());
+        }
+        return result;
+    }
+}
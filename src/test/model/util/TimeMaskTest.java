@@ -0,0 +1,45 @@
+package model.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for TimeMask
+class TimeMaskTest {
+
+    // EFFECTS: Test that masks are only made for sections that can be put into slots
+    @Test
+    void ofTest() {
+        assertNotNull(TimeMask.of(540, 600, Arrays.asList("Mon", "Sun")));
+        assertNull(TimeMask.of(541, 600, Arrays.asList("Mon")));
+        assertNull(TimeMask.of(540, 602, Arrays.asList("Mon")));
+        assertNull(TimeMask.of(600, 540, Arrays.asList("Mon")));
+        assertNull(TimeMask.of(540, 600, Arrays.asList("Mon, Wed")));
+        assertNull(TimeMask.of(540, 600, null));
+        assertArrayEquals(TimeMask.empty(), TimeMask.of(540, 600, Arrays.asList()));
+    }
+
+    // EFFECTS: Test that only overlapping times on the same day intersect
+    @Test
+    void intersectsTest() {
+        long[] mondayMorning = TimeMask.of(540, 600, Arrays.asList("Mon"));
+        assertTrue(TimeMask.intersects(mondayMorning, TimeMask.of(595, 700, Arrays.asList("Mon"))));
+        assertFalse(TimeMask.intersects(mondayMorning, TimeMask.of(600, 700, Arrays.asList("Mon"))));
+        assertFalse(TimeMask.intersects(mondayMorning, TimeMask.of(480, 540, Arrays.asList("Mon"))));
+        assertFalse(TimeMask.intersects(mondayMorning, TimeMask.of(540, 600, Arrays.asList("Tue"))));
+        assertTrue(TimeMask.intersects(mondayMorning, TimeMask.of(0, 1440, Arrays.asList("Tue", "Mon"))));
+    }
+
+    // EFFECTS: Test that adding a mask marks its slots as occupied
+    @Test
+    void addToTest() {
+        long[] occupied = TimeMask.empty();
+        long[] friday = TimeMask.of(1380, 1440, Arrays.asList("Fri"));
+        assertFalse(TimeMask.intersects(occupied, friday));
+        TimeMask.addTo(occupied, friday);
+        assertTrue(TimeMask.intersects(occupied, friday));
+        assertFalse(TimeMask.intersects(occupied, TimeMask.of(0, 1440, Arrays.asList("Mon", "Sat"))));
+    }
+}
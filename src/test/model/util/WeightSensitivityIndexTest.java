@@ -0,0 +1,80 @@
+package model.util;
+
+import model.Schedule;
+import model.Weight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for WeightSensitivityIndex
+class WeightSensitivityIndexTest {
+    private FeasibleSet feasibleSet;
+
+    @BeforeEach
+    void runBefore() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByIDs(Arrays.asList("CPSC 110", "CPSC 121", "MATH 180", "PHYS 117"));
+        feasibleSet = new FeasibleSet(schedule);
+    }
+
+    // EFFECTS: Test that the best class for every weight has the score of the first class of the ranking for it
+    @Test
+    void topTest() {
+        WeightSensitivityIndex index = feasibleSet.sensitivityIndex(540, 900);
+        assertEquals(540, index.getPreferredStartTime());
+        assertEquals(900, index.getPreferredEndTime());
+        for (int compactWeight = 0; compactWeight <= 100; compactWeight += 5) {
+            for (int balanceWeight = 0; balanceWeight <= 100; balanceWeight += 20) {
+                if (compactWeight + balanceWeight > 0) {
+                    Weight weight = new Weight(compactWeight, balanceWeight, 540, 900);
+                    ScheduleClass top = index.top(weight);
+                    List<ScheduleClass> ranked = feasibleSet.rank(weight);
+                    assertEquals(ranked.get(0).getScore(), top.getScore());
+                    assertEquals(top.getScore(), top.getSchedule().getScore());
+                }
+            }
+        }
+    }
+
+    // EFFECTS: Test that the shares of the envelope go from 0 to 1 without gaps, and that a weight in the middle of
+    //          the shares of a class finds it
+    @Test
+    void sharesTest() {
+        WeightSensitivityIndex index = feasibleSet.sensitivityIndex(540, 900);
+        assertTrue(index.size() > 1);
+        assertEquals(0, index.getLowestShare(0));
+        assertEquals(1, index.getHighestShare(index.size() - 1));
+        for (int position = 0; position < index.size(); position++) {
+            assertTrue(index.getLowestShare(position) < index.getHighestShare(position));
+            if (position > 0) {
+                assertEquals(index.getHighestShare(position - 1), index.getLowestShare(position));
+            }
+            double share = (index.getLowestShare(position) + index.getHighestShare(position)) / 2;
+            int compactWeight = (int) Math.round(share * 1000000);
+            Weight weight = new Weight(compactWeight, 1000000 - compactWeight, 540, 900);
+            if (compactWeight > 0 && compactWeight < 1000000) {
+                assertEquals(position, index.find(weight));
+            }
+        }
+    }
+
+    // EFFECTS: Test an index of a set with a single class, and of an empty set
+    @Test
+    void smallSetsTest() {
+        Schedule schedule = new Schedule("test schedule", 1, new Weight(1, 1, "9:00", "15:00"),
+                new CourseRealData("./data/courses.json", "./data/sections.json"));
+        schedule.addCoursesByID("ENGL 110");
+        FeasibleSet small = new FeasibleSet(schedule);
+        WeightSensitivityIndex index = small.sensitivityIndex(540, 900);
+        assertTrue(index.size() >= 1);
+        Weight weight = new Weight(1, 0, 540, 900);
+        assertEquals(small.rank(weight).get(0).getScore(), index.top(weight).getScore());
+        schedule.addCoursesByID("ASTR 102");
+        assertEquals(0, new FeasibleSet(schedule).sensitivityIndex(540, 900).size());
+    }
+}
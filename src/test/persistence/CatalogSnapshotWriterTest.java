@@ -0,0 +1,77 @@
+package persistence;
+
+import model.Course;
+import model.Section;
+import model.SectionType;
+import model.util.CatalogSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for CatalogSnapshotWriter
+class CatalogSnapshotWriterTest {
+    Path file;
+    List<Course> courses;
+
+    // EFFECTS: Makes a destination and one course before every test
+    @BeforeEach
+    void setup() throws IOException {
+        file = Files.createTempFile("catalog", ".snapshot");
+        courses = Arrays.asList(new Course("A 100", "a course"));
+    }
+
+    // EFFECTS: Deletes the destination after every test
+    @AfterEach
+    void teardown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    // EFFECTS: Test that a snapshot written over another one has the new sections, including those of courses
+    //          that are not in the course file
+    @Test
+    void writeTest() throws IOException {
+        CatalogSnapshotWriter writer = new CatalogSnapshotWriter(file.toString());
+        writer.write(courses, Arrays.asList(section("A 100 101", "A 100", "Mon", new ArrayList<>())));
+        writer.write(courses, Arrays.asList(section("A 100 101", "A 100", "Mon", new ArrayList<>()),
+                section("B 200 101", "B 200", "Tue", Arrays.asList(Arrays.asList("A 100 101")))));
+        CatalogSnapshot snapshot = new CatalogSnapshot(file.toString());
+        assertEquals(2, snapshot.size());
+        assertEquals(Arrays.asList("A 100"), snapshot.getAllCourseIDs());
+        assertEquals("B 200", snapshot.getSection("B 200 101").getCourseID());
+        assertEquals(Arrays.asList("Tue"), snapshot.getSection("B 200 101").getWeekDays());
+        assertEquals(Arrays.asList(Arrays.asList("A 100 101")),
+                snapshot.getSection("B 200 101").getAntiRequisiteIDs());
+        assertFalse(Files.exists(Paths.get(file + ".tmp")));
+    }
+
+    // EFFECTS: Test that a section on an unknown day or with an unknown antirequisite cannot be written, and that
+    //          neither can a snapshot to a place that does not exist
+    @Test
+    void writeInvalidTest() {
+        CatalogSnapshotWriter writer = new CatalogSnapshotWriter(file.toString());
+        assertThrows(IllegalArgumentException.class, () -> writer.write(courses,
+                Arrays.asList(section("A 100 101", "A 100", "Mon, Wed", new ArrayList<>()))));
+        assertThrows(IllegalArgumentException.class, () -> writer.write(courses,
+                Arrays.asList(section("A 100 101", "A 100", "Mon", Arrays.asList(Arrays.asList("A 100 102"))))));
+        assertFalse(Files.exists(Paths.get(file + ".tmp")));
+        assertThrows(IOException.class, () -> new CatalogSnapshotWriter("./data/none/catalog.snapshot")
+                .write(courses, Collections.emptyList()));
+    }
+
+    // EFFECTS: returns a lecture from 9:00 to 10:00 in term 1 with the given fields
+    private Section section(String sectionID, String courseID, String day, List<List<String>> antirequisites) {
+        return new Section(sectionID, courseID, SectionType.LECTURE, "9:00", "10:00", Arrays.asList(day), 1,
+                antirequisites);
+    }
+}
@@ -0,0 +1,90 @@
+package persistence;
+
+import model.Schedule;
+import model.log.Event;
+import model.log.EventLog;
+import model.util.CourseRealData;
+import model.util.SchedulingRequest;
+import org.json.JSONException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A testing class for JsonReaderSchedulingRequest
+class JsonReaderSchedulingRequestTest {
+    private static final String WEIGHT = "\"weight\": {\"compactWeight\": 3, \"balanceWeight\": 2, "
+            + "\"preferredStartTime\": 600, \"preferredEndTime\": 960}";
+
+    private JsonReaderSchedulingRequest reader;
+
+    @BeforeEach
+    void runBefore() {
+        reader = new JsonReaderSchedulingRequest(new CourseRealData("./data/courses.json", "./data/sections.json"));
+    }
+
+    @Test
+    void readTest() {
+        SchedulingRequest request = reader.read("{\"id\": \"student\", \"term\": 2, " + WEIGHT
+                + ", \"courses\": [\"CPSC 110\", \"MATH 101\"], \"numOfSchedules\": 5, \"timeLimit\": 200, "
+                + "\"nodeBudget\": 3000, \"beamWidth\": 16}");
+        assertEquals("student", request.getSchedule().getName());
+        assertEquals(2, request.getSchedule().getTerm());
+        assertEquals(Arrays.asList("CPSC 110", "MATH 101"), request.getSchedule().getCourseIDs());
+        assertEquals(3, request.getSchedule().getWeight().getCompactWeight());
+        assertEquals(2, request.getSchedule().getWeight().getBalanceWeight());
+        assertEquals(600, request.getSchedule().getWeight().getPreferredStartTime());
+        assertEquals(960, request.getSchedule().getWeight().getPreferredEndTime());
+        assertEquals(5, request.getNumOfSchedules());
+        assertEquals(200, request.getTimeLimit());
+        assertEquals(3000, request.getNodeBudget());
+        assertEquals(16, request.getBeamWidth());
+    }
+
+    @Test
+    void readDoesNotLogTest() {
+        EventLog.getInstance().clear();
+        reader.read("{\"term\": 1, " + WEIGHT + ", \"courses\": [\"CPSC 110\", \"MATH 101\"]}");
+        int numOfEvents = 0;
+        for (Event event : EventLog.getInstance()) {
+            numOfEvents++;
+        }
+        assertEquals(1, numOfEvents);
+    }
+
+    @Test
+    void readDefaultsTest() {
+        SchedulingRequest request = reader.read("{\"term\": 1, " + WEIGHT + ", \"courses\": [\"CPSC 110\"]}");
+        assertEquals("", request.getSchedule().getName());
+        assertEquals(1, request.getNumOfSchedules());
+        assertEquals(0, request.getTimeLimit());
+        assertEquals(0, request.getNodeBudget());
+        assertEquals(0, request.getBeamWidth());
+    }
+
+    @Test
+    void readInvalidTest() {
+        assertThrows(JSONException.class, () -> reader.read("{\"term\": 1, \"courses\": [\"CPSC 110\"]}"));
+        assertThrows(JSONException.class, () -> reader.read("{\"term\": 1, " + WEIGHT + ", \"courses\": [\"X\"]}"));
+        assertThrows(JSONException.class, () -> reader.read("not json"));
+        for (String key : Arrays.asList("numOfSchedules", "timeLimit", "nodeBudget", "beamWidth")) {
+            assertThrows(JSONException.class, () -> reader.read("{\"term\": 1, " + WEIGHT
+                    + ", \"courses\": [\"CPSC 110\"], \"" + key + "\": -1}"));
+        }
+        assertThrows(JSONException.class, () -> reader.read("{\"term\": 1, " + WEIGHT
+                + ", \"courses\": [\"CPSC 110\"], \"beamWidth\": 4294967296}"));
+    }
+
+    @Test
+    void readScheduleTest() {
+        Schedule schedule = reader.readSchedule("{\"name\": \"saved\", \"term\": 1, " + WEIGHT
+                + ", \"courses\": [\"CPSC 110\"], \"sectionIDs\": [\"CPSC 110 101\", \"CPSC 110 L12\"]}");
+        assertEquals("saved", schedule.getName());
+        assertEquals(Arrays.asList("CPSC 110 101", "CPSC 110 L12"), schedule.getSectionIDs());
+        assertTrue(schedule.getScore() > 0);
+        assertThrows(JSONException.class, () -> reader.readSchedule("{\"name\": \"saved\", \"term\": 1, " + WEIGHT
+                + ", \"courses\": [\"CPSC 110\"], \"sectionIDs\": [\"CPSC 110 999\"]}"));
+    }
+}